@@ -1,9 +1,14 @@
 package com.johnbeo.johnbeo;
 
+import com.johnbeo.johnbeo.common.config.CacheProperties;
 import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
 import com.johnbeo.johnbeo.cryptodata.config.TradingViewProperties;
+import com.johnbeo.johnbeo.domain.feed.config.HomeFeedProperties;
+import com.johnbeo.johnbeo.domain.post.config.EngagementCounterProperties;
+import com.johnbeo.johnbeo.domain.post.config.HotRankingProperties;
 import com.johnbeo.johnbeo.domain.watchlist.config.WatchlistProperties;
 import com.johnbeo.johnbeo.security.jwt.JwtProperties;
+import com.johnbeo.johnbeo.web.warmup.WarmupProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -13,7 +18,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 @SpringBootApplication
 @EnableJpaAuditing
 @EnableCaching
-@EnableConfigurationProperties({JwtProperties.class, CoinGeckoProperties.class, TradingViewProperties.class, WatchlistProperties.class})
+@EnableConfigurationProperties({JwtProperties.class, CoinGeckoProperties.class, TradingViewProperties.class, WatchlistProperties.class, CacheProperties.class, WarmupProperties.class, EngagementCounterProperties.class, HomeFeedProperties.class, HotRankingProperties.class})
 public class JohnbeoApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,117 @@
+package com.johnbeo.johnbeo.common.cache;
+
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Rough retained-size estimate of cached payloads, used as the Caffeine weigher. Records are walked
+ * through their components, so DTOs need no size hints of their own; views that would have to materialize
+ * their elements to be walked implement {@link Sized} instead.
+ */
+public final class PayloadSizeEstimator {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int MAX_DEPTH = 8;
+
+    private PayloadSizeEstimator() {
+    }
+
+    public interface Sized {
+        long estimatedSize();
+    }
+
+    public static int weigh(Object key, Object value) {
+        long bytes = estimate(key) + estimate(value);
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, bytes));
+    }
+
+    public static long estimate(Object value) {
+        return estimate(value, 0);
+    }
+
+    private static long estimate(Object value, int depth) {
+        if (value == null || value instanceof Enum<?>) {
+            return 0;
+        }
+        if (depth > MAX_DEPTH) {
+            return OBJECT_HEADER;
+        }
+        if (value instanceof Sized sized) {
+            return sized.estimatedSize();
+        }
+        if (value instanceof String string) {
+            return 40 + string.length();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return 40 + (decimal.precision() > 18 ? estimate(decimal.unscaledValue(), depth + 1) : 0);
+        }
+        if (value instanceof BigInteger integer) {
+            return 40 + OBJECT_HEADER + (long) (integer.bitLength() / 32 + 1) * Integer.BYTES;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return 24;
+        }
+        if (value instanceof Temporal) {
+            return 24;
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT_HEADER + bytes.length;
+        }
+        if (value instanceof int[] ints) {
+            return OBJECT_HEADER + (long) ints.length * Integer.BYTES;
+        }
+        if (value instanceof long[] longs) {
+            return OBJECT_HEADER + (long) longs.length * Long.BYTES;
+        }
+        if (value instanceof double[] doubles) {
+            return OBJECT_HEADER + (long) doubles.length * Double.BYTES;
+        }
+        if (value instanceof Object[] array) {
+            long size = OBJECT_HEADER + (long) array.length * REFERENCE;
+            for (Object element : array) {
+                size += estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = 40 + (long) collection.size() * REFERENCE;
+            for (Object element : collection) {
+                size += estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = 48;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += 32 + estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        if (value.getClass().isRecord()) {
+            return estimateRecord(value, depth);
+        }
+        return OBJECT_HEADER;
+    }
+
+    private static long estimateRecord(Object value, int depth) {
+        long size = OBJECT_HEADER;
+        for (RecordComponent component : value.getClass().getRecordComponents()) {
+            if (component.getType().isPrimitive()) {
+                size += Long.BYTES;
+                continue;
+            }
+            size += REFERENCE;
+            try {
+                size += estimate(component.getAccessor().invoke(value), depth + 1);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                size += OBJECT_HEADER;
+            }
+        }
+        return size;
+    }
+}
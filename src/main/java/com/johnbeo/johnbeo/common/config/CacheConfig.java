@@ -2,21 +2,34 @@ package com.johnbeo.johnbeo.common.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.johnbeo.johnbeo.common.cache.PayloadSizeEstimator;
 import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+@Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class CacheConfig {
 
+    private final CacheProperties cacheProperties;
+
     @Bean
     public CacheManager cacheManager() {
+        double budgetScale = budgetScale();
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-            .expireAfterWrite(Duration.ofSeconds(60))
-            .maximumSize(1_000));
+        // An empty name list switches the manager to static mode: every cache needs a policy, so none can be created
+        // on demand outside the app.cache.max-heap budget.
+        cacheManager.setCacheNames(List.of());
+        for (String cacheName : cacheProperties.getPolicies().keySet()) {
+            CacheProperties.Policy policy = cacheProperties.policyFor(cacheName);
+            cacheManager.registerCustomCache(cacheName, weightedCaffeine(policy, budgetScale).build());
+        }
         return cacheManager;
     }
 
@@ -27,4 +40,22 @@ public class CacheConfig {
             .maximumSize(10_000)
             .build();
     }
+
+    private Caffeine<Object, Object> weightedCaffeine(CacheProperties.Policy policy, double budgetScale) {
+        long maxWeight = Math.max(1, (long) (policy.getMaxWeight().toBytes() * budgetScale));
+        return Caffeine.newBuilder()
+            .expireAfterWrite(policy.getTtl())
+            .maximumWeight(maxWeight)
+            .weigher(PayloadSizeEstimator::weigh);
+    }
+
+    private double budgetScale() {
+        long requested = cacheProperties.totalMaxWeightBytes();
+        long budget = cacheProperties.getMaxHeap().toBytes();
+        if (requested <= budget) {
+            return 1.0;
+        }
+        log.warn("Cache weights ({} bytes) exceed app.cache.max-heap ({} bytes), scaling every cache down", requested, budget);
+        return (double) budget / requested;
+    }
 }
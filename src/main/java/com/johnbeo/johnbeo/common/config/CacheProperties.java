@@ -0,0 +1,60 @@
+package com.johnbeo.johnbeo.common.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Cache policies by cache name. Only caches listed under {@code policies} exist; {@code defaults} fills in the TTL
+ * and weight a policy leaves out, so the sum of the policy weights is the whole cache budget.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    private DataSize maxHeap = DataSize.ofMegabytes(64);
+    private Policy defaults = new Policy(Duration.ofSeconds(60), null, DataSize.ofMegabytes(4));
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    public Policy policyFor(String cacheName) {
+        Policy policy = policies.get(cacheName);
+        if (policy == null) {
+            return defaults;
+        }
+        return new Policy(
+            policy.getTtl() != null ? policy.getTtl() : defaults.getTtl(),
+            policy.getRefreshAfterWrite(),
+            policy.getMaxWeight() != null ? policy.getMaxWeight() : defaults.getMaxWeight()
+        );
+    }
+
+    public long totalMaxWeightBytes() {
+        long total = 0;
+        for (String cacheName : policies.keySet()) {
+            total += policyFor(cacheName).getMaxWeight().toBytes();
+        }
+        return total;
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private Duration ttl;
+        private Duration refreshAfterWrite;
+        private DataSize maxWeight;
+
+        public Policy() {
+        }
+
+        public Policy(Duration ttl, Duration refreshAfterWrite, DataSize maxWeight) {
+            this.ttl = ttl;
+            this.refreshAfterWrite = refreshAfterWrite;
+            this.maxWeight = maxWeight;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.johnbeo.johnbeo.common.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Scheduler for blocking fan-out work inside reactive pipelines. It follows {@code spring.threads.virtual.enabled}:
+ * with virtual threads it runs on the same virtual-thread {@code applicationTaskExecutor} the switch gives the rest
+ * of the app, otherwise on Reactor's bounded elastic pool.
+ */
+@Configuration
+public class ReactorSchedulerConfig {
+
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Scheduler fanOutScheduler(@Qualifier("applicationTaskExecutor") Executor applicationTaskExecutor) {
+        return Schedulers.fromExecutor(applicationTaskExecutor);
+    }
+
+    @Bean(name = "fanOutScheduler", destroyMethod = "")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Scheduler platformFanOutScheduler() {
+        return Schedulers.boundedElastic();
+    }
+}
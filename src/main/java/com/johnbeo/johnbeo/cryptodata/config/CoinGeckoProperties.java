@@ -1,5 +1,10 @@
 package com.johnbeo.johnbeo.cryptodata.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -10,14 +15,21 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class CoinGeckoProperties {
 
     private String baseUrl = "https://api.coingecko.com/api/v3";
+    private Duration requestTimeout = Duration.ofSeconds(10);
     private Market market = new Market();
     private SimplePrice simplePrice = new SimplePrice();
+    private Snapshot snapshot = new Snapshot();
+    private RateLimit rateLimit = new RateLimit();
+    private History history = new History();
+    private Ticks ticks = new Ticks();
+    private Catalog catalog = new Catalog();
 
     @Getter
     @Setter
     public static class Market {
         private String vsCurrency = "usd";
         private int perPage = 100;
+        private Duration multiCurrencyTimeout = Duration.ofSeconds(5);
     }
 
     @Getter
@@ -25,5 +37,58 @@ public class CoinGeckoProperties {
     public static class SimplePrice {
         private String vsCurrency = "usd";
         private boolean include24hChange = true;
+        private Duration batchWindow = Duration.ofMillis(5);
+        private int maxIdsLength = 1500;
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+        private boolean enabled = true;
+        private int size = 250;
+        private List<String> currencies = new ArrayList<>(List.of("usd", "krw"));
+        private Duration refreshInterval = Duration.ofSeconds(30);
+        private Duration maxAge = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private boolean enabled = true;
+        private int requestsPerMinute = 30;
+        private int burst = 10;
+        private int backgroundReserve = 3;
+        private Duration interactiveMaxWait = Duration.ofSeconds(3);
+        private Duration validationMaxWait = Duration.ofSeconds(2);
+    }
+
+    @Getter
+    @Setter
+    public static class History {
+        private boolean enabled = true;
+        private String directory = "data/chart-history";
+        private int segmentRecords = 8192;
+        private Duration retention = Duration.ofDays(400);
+        private Set<Integer> days = new LinkedHashSet<>(List.of(1, 7, 14, 30, 90, 180, 365));
+        private int maxOpenSeries = 256;
+    }
+
+    @Getter
+    @Setter
+    public static class Ticks {
+        private boolean enabled = true;
+        private int blockSize = 240;
+        private Duration retention = Duration.ofDays(30);
+        private Duration compactAfter = Duration.ofDays(1);
+        private Duration compactedResolution = Duration.ofMinutes(5);
+        private Duration compactionInterval = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Catalog {
+        private boolean enabled = true;
+        private Duration refreshInterval = Duration.ofHours(6);
+        private int maxResults = 20;
     }
 }
@@ -1,71 +1,194 @@
 package com.johnbeo.johnbeo.cryptodata.controller;
 
 import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
-import com.johnbeo.johnbeo.cryptodata.dto.CoinDetailDto;
-import com.johnbeo.johnbeo.cryptodata.dto.CoinMarketDto;
-import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
+import com.johnbeo.johnbeo.cryptodata.dto.CoinSearchDto;
+import com.johnbeo.johnbeo.cryptodata.dto.PriceStreamEvent;
 import com.johnbeo.johnbeo.cryptodata.dto.SimplePriceDto;
+import com.johnbeo.johnbeo.cryptodata.dto.Versioned;
+import com.johnbeo.johnbeo.cryptodata.service.CoinCatalogService;
 import com.johnbeo.johnbeo.cryptodata.service.CryptoDataService;
+import com.johnbeo.johnbeo.cryptodata.service.PriceStreamService;
+import com.johnbeo.johnbeo.cryptodata.service.support.EncodedResponseCache;
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/coins")
 @RequiredArgsConstructor
 public class CryptoDataController {
 
+    private static final Duration STREAM_HEARTBEAT = Duration.ofSeconds(20);
+    private static final Duration STREAM_MAX_AGE = Duration.ofMinutes(10);
+    private static final String MARKET_VERSION_HEADER = "X-Market-Version";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+    private static final Duration SEARCH_MAX_AGE = Duration.ofMinutes(5);
+
     private final CryptoDataService cryptoDataService;
+    private final PriceStreamService priceStreamService;
+    private final CoinCatalogService coinCatalogService;
     private final CoinGeckoProperties properties;
+    private final EncodedResponseCache encodedResponseCache;
 
     @GetMapping("/markets")
-    public ResponseEntity<List<CoinMarketDto>> getMarkets(
+    public Mono<ResponseEntity<byte[]>> getMarkets(
         @RequestParam(defaultValue = "1") int page,
         @RequestParam(required = false) Integer perPage,
-        @RequestParam(required = false, name = "vs_currency") String vsCurrency
+        @RequestParam(required = false, name = "vs_currency") String vsCurrency,
+        @RequestParam(required = false) String sinceVersion,
+        @RequestHeader(required = false, name = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+        @RequestHeader(required = false, name = HttpHeaders.ACCEPT_ENCODING) String acceptEncoding
     ) {
         int resolvedPerPage = perPage != null ? perPage : properties.getMarket().getPerPage();
         String resolvedCurrency = resolveCurrency(vsCurrency, properties.getMarket().getVsCurrency());
-        List<CoinMarketDto> markets = cryptoDataService.getMarketCoins(resolvedPerPage, page, resolvedCurrency);
-        return ResponseEntity.ok(markets);
+        return cryptoDataService.getMarketCoinsVersioned(resolvedPerPage, page, resolvedCurrency, sinceVersion)
+            .map(markets -> conditional(
+                "markets:" + resolvedCurrency + ':' + resolvedPerPage + ':' + page, markets, ifNoneMatch, acceptEncoding));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<CoinSearchDto>> searchCoins(
+        @RequestParam(name = "q") String query,
+        @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(SEARCH_MAX_AGE).cachePublic())
+            .body(coinCatalogService.search(query, limit));
     }
 
     @GetMapping("/{coinId}")
-    public ResponseEntity<CoinDetailDto> getCoinDetail(
+    public Mono<ResponseEntity<byte[]>> getCoinDetail(
         @PathVariable String coinId,
-        @RequestParam(required = false, name = "vs_currency") String vsCurrency
+        @RequestParam(required = false, name = "vs_currency") String vsCurrency,
+        @RequestHeader(required = false, name = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+        @RequestHeader(required = false, name = HttpHeaders.ACCEPT_ENCODING) String acceptEncoding
     ) {
         String resolvedCurrency = resolveCurrency(vsCurrency, properties.getMarket().getVsCurrency());
-        CoinDetailDto detail = cryptoDataService.getCoinDetail(coinId, resolvedCurrency);
-        return ResponseEntity.ok(detail);
+        return cryptoDataService.getCoinDetailVersioned(coinId, resolvedCurrency)
+            .map(detail -> conditional("detail:" + coinId + ':' + resolvedCurrency, detail, ifNoneMatch, acceptEncoding));
     }
 
     @GetMapping("/{coinId}/market-chart")
-    public ResponseEntity<MarketChartDto> getMarketChart(
+    public Mono<ResponseEntity<byte[]>> getMarketChart(
         @PathVariable String coinId,
         @RequestParam(defaultValue = "30") int days,
-        @RequestParam(required = false, name = "vs_currency") String vsCurrency
+        @RequestParam(required = false, name = "vs_currency") String vsCurrency,
+        @RequestParam(required = false) Integer maxPoints,
+        @RequestHeader(required = false, name = HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+        @RequestHeader(required = false, name = HttpHeaders.ACCEPT_ENCODING) String acceptEncoding
     ) {
         String resolvedCurrency = resolveCurrency(vsCurrency, properties.getMarket().getVsCurrency());
-        MarketChartDto chart = cryptoDataService.getMarketChart(coinId, days, resolvedCurrency);
-        return ResponseEntity.ok(chart);
+        return cryptoDataService.getMarketChartVersioned(coinId, days, resolvedCurrency, maxPoints)
+            .map(chart -> conditional(
+                "chart:" + coinId + ':' + days + ':' + resolvedCurrency, chart, ifNoneMatch, acceptEncoding));
     }
 
     @GetMapping("/simple-price")
-    public ResponseEntity<Map<String, SimplePriceDto>> getSimplePrices(
+    public Mono<ResponseEntity<Map<String, SimplePriceDto>>> getSimplePrices(
         @RequestParam(name = "ids") List<String> coinIds,
         @RequestParam(required = false, name = "vs_currency") String vsCurrency
     ) {
         String resolvedCurrency = resolveCurrency(vsCurrency, properties.getSimplePrice().getVsCurrency());
-        Map<String, SimplePriceDto> prices = cryptoDataService.getSimplePrices(coinIds, resolvedCurrency);
-        return ResponseEntity.ok(prices);
+        return cryptoDataService.getSimplePricesAsync(coinIds, resolvedCurrency)
+            .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PriceStreamEvent>> streamPrices(
+        @RequestParam(required = false, name = "ids") List<String> coinIds,
+        @RequestParam(required = false, name = "vs_currency") List<String> vsCurrencies,
+        @RequestHeader(required = false, name = "Last-Event-ID") String lastEventId
+    ) {
+        Flux<ServerSentEvent<PriceStreamEvent>> updates = priceStreamService.subscribe(coinIds, vsCurrencies, lastEventId)
+            .map(event -> ServerSentEvent.builder(event)
+                .id(priceStreamService.eventId(event))
+                .event(event.type().name().toLowerCase(Locale.ROOT))
+                .build());
+        Flux<ServerSentEvent<PriceStreamEvent>> heartbeats = Flux.interval(STREAM_HEARTBEAT)
+            .map(tick -> ServerSentEvent.<PriceStreamEvent>builder().comment("keep-alive").build());
+        return Flux.merge(updates, heartbeats).take(STREAM_MAX_AGE);
+    }
+
+    private ResponseEntity<byte[]> conditional(
+        String endpointKey,
+        Versioned<?> versioned,
+        String ifNoneMatch,
+        String acceptEncoding
+    ) {
+        String etag = '"' + versioned.version() + '"';
+        String gzipEtag = '"' + versioned.version() + GZIP_ETAG_SUFFIX + '"';
+        HttpHeaders headers = new HttpHeaders();
+        headers.setLastModified(versioned.lastModified());
+        headers.setCacheControl(CacheControl.noCache());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (versioned.changeVersion() != null) {
+            headers.set(MARKET_VERSION_HEADER, versioned.changeVersion());
+        }
+        if (matches(ifNoneMatch, etag) || matches(ifNoneMatch, gzipEtag)) {
+            headers.setETag(matches(ifNoneMatch, etag) ? etag : gzipEtag);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+        EncodedResponseCache.EncodedBody body = encodedResponseCache.encode(endpointKey, versioned.version(), versioned.value());
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (body.hasGzip() && acceptsGzip(acceptEncoding)) {
+            headers.setETag(gzipEtag);
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return ResponseEntity.ok().headers(headers).body(body.gzip());
+        }
+        headers.setETag(etag);
+        return ResponseEntity.ok().headers(headers).body(body.json());
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                if (parts[i].replace(" ", "").matches("q=0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (!StringUtils.hasText(ifNoneMatch)) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private String resolveCurrency(String currency, String fallback) {
@@ -0,0 +1,129 @@
+package com.johnbeo.johnbeo.cryptodata.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One chart series stored as parallel primitive columns. Serializes to the same
+ * {@code [{"timestamp": .., "value": ..}]} shape as a list of {@link MarketChartPoint}s, straight from the arrays.
+ */
+@JsonSerialize(using = ChartSeries.Writer.class)
+public record ChartSeries(long[] timestamps, double[] values) {
+
+    private static final ChartSeries EMPTY = new ChartSeries(new long[0], new double[0]);
+
+    public ChartSeries {
+        if (timestamps.length != values.length) {
+            throw new IllegalArgumentException("timestamps and values must have the same length");
+        }
+    }
+
+    public static ChartSeries empty() {
+        return EMPTY;
+    }
+
+    public static ChartSeries of(List<MarketChartPoint> points) {
+        if (points == null || points.isEmpty()) {
+            return EMPTY;
+        }
+        long[] timestamps = new long[points.size()];
+        double[] values = new double[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            MarketChartPoint point = points.get(i);
+            timestamps[i] = point.timestamp();
+            values[i] = point.value() != null ? point.value().doubleValue() : Double.NaN;
+        }
+        return new ChartSeries(timestamps, values);
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+
+    public boolean isEmpty() {
+        return timestamps.length == 0;
+    }
+
+    public long timestamp(int index) {
+        return timestamps[index];
+    }
+
+    public double value(int index) {
+        return values[index];
+    }
+
+    public List<MarketChartPoint> points() {
+        return new AbstractList<>() {
+            @Override
+            public MarketChartPoint get(int index) {
+                return new MarketChartPoint(timestamps[index], PlainNumbers.toDecimal(values[index]));
+            }
+
+            @Override
+            public int size() {
+                return timestamps.length;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ChartSeries series
+            && Arrays.equals(timestamps, series.timestamps)
+            && Arrays.equals(values, series.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(timestamps) + Arrays.hashCode(values);
+    }
+
+    /**
+     * 64-bit content hash chained from {@code seed}. Unlike {@link #hashCode()} it is wide enough to back an ETag.
+     */
+    public long digest(long seed) {
+        long hash = mix(seed ^ timestamps.length);
+        for (int i = 0; i < timestamps.length; i++) {
+            hash = mix(hash ^ timestamps[i]);
+            hash = mix(hash ^ Double.doubleToLongBits(values[i]));
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ChartSeries[size=" + timestamps.length + "]";
+    }
+
+    private static long mix(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    public static final class Writer extends StdSerializer<ChartSeries> {
+
+        public Writer() {
+            super(ChartSeries.class);
+        }
+
+        @Override
+        public void serialize(ChartSeries series, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartArray(series, series.size());
+            for (int i = 0; i < series.size(); i++) {
+                generator.writeStartObject();
+                generator.writeNumberField("timestamp", series.timestamps[i]);
+                PlainNumbers.writeField(generator, "value", series.values[i]);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.johnbeo.johnbeo.cryptodata.dto;
+
+public record CoinSearchDto(
+    String id,
+    String symbol,
+    String name
+) {
+}
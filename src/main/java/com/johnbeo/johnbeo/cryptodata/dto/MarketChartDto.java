@@ -1,14 +1,44 @@
 package com.johnbeo.johnbeo.cryptodata.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 
 public record MarketChartDto(
-    List<MarketChartPoint> prices,
-    List<MarketChartPoint> marketCaps,
-    List<MarketChartPoint> totalVolumes
+    @JsonProperty("prices") ChartSeries priceSeries,
+    @JsonProperty("marketCaps") ChartSeries marketCapSeries,
+    @JsonProperty("totalVolumes") ChartSeries totalVolumeSeries
 ) {
 
+    public MarketChartDto(List<MarketChartPoint> prices, List<MarketChartPoint> marketCaps, List<MarketChartPoint> totalVolumes) {
+        this(ChartSeries.of(prices), ChartSeries.of(marketCaps), ChartSeries.of(totalVolumes));
+    }
+
     public static MarketChartDto empty() {
-        return new MarketChartDto(List.of(), List.of(), List.of());
+        return new MarketChartDto(ChartSeries.empty(), ChartSeries.empty(), ChartSeries.empty());
+    }
+
+    /**
+     * 128-bit digest of all three series, for versioning charts that are rebuilt per request.
+     */
+    public String contentVersion() {
+        long high = 0x243F6A8885A308D3L;
+        long low = 0x13198A2E03707344L;
+        for (ChartSeries series : List.of(priceSeries, marketCapSeries, totalVolumeSeries)) {
+            high = series.digest(high);
+            low = series.digest(low);
+        }
+        return String.format("%016x%016x", high, low);
+    }
+
+    public List<MarketChartPoint> prices() {
+        return priceSeries.points();
+    }
+
+    public List<MarketChartPoint> marketCaps() {
+        return marketCapSeries.points();
+    }
+
+    public List<MarketChartPoint> totalVolumes() {
+        return totalVolumeSeries.points();
     }
 }
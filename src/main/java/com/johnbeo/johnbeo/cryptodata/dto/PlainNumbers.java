@@ -0,0 +1,43 @@
+package com.johnbeo.johnbeo.cryptodata.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Conversions for numbers kept as primitive doubles (NaN when absent). Values always come out in plain notation,
+ * the way CoinGecko sends them, never as {@code 1.3E+12}.
+ */
+public final class PlainNumbers {
+
+    private PlainNumbers() {
+    }
+
+    public static BigDecimal toDecimal(double value) {
+        if (Double.isNaN(value)) {
+            return null;
+        }
+        BigDecimal decimal = BigDecimal.valueOf(value);
+        return decimal.scale() < 0 ? decimal.setScale(0) : decimal;
+    }
+
+    /**
+     * Writes {@code value} as a JSON number, or null for NaN. {@link Double#toString} is already plain between 1e-3
+     * and 1e7, so only values outside that range pay for a {@link BigDecimal}.
+     */
+    public static void write(JsonGenerator generator, double value) throws IOException {
+        double magnitude = Math.abs(value);
+        if (Double.isNaN(value)) {
+            generator.writeNull();
+        } else if (magnitude == 0.0 || (magnitude >= 1e-3 && magnitude < 1e7)) {
+            generator.writeNumber(value);
+        } else {
+            generator.writeNumber(BigDecimal.valueOf(value).toPlainString());
+        }
+    }
+
+    public static void writeField(JsonGenerator generator, String name, double value) throws IOException {
+        generator.writeFieldName(name);
+        write(generator, value);
+    }
+}
@@ -0,0 +1,8 @@
+package com.johnbeo.johnbeo.cryptodata.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.math.BigDecimal;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PriceChange(String coinId, BigDecimal price, BigDecimal change24h) {
+}
@@ -0,0 +1,11 @@
+package com.johnbeo.johnbeo.cryptodata.dto;
+
+import java.util.List;
+
+public record PriceStreamEvent(long sequence, Type type, String currency, List<PriceChange> changes) {
+
+    public enum Type {
+        SNAPSHOT,
+        UPDATE
+    }
+}
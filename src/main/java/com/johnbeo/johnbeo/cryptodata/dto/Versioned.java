@@ -0,0 +1,20 @@
+package com.johnbeo.johnbeo.cryptodata.dto;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * A response value with the validators the controller turns into ETag / Last-Modified. {@code changeVersion} is set
+ * only for snapshot-backed market pages, where it can be passed back as {@code sinceVersion}; it is an opaque
+ * {@code epoch.version} token, so one issued by another process simply yields the full page.
+ */
+public record Versioned<T>(T value, String version, Instant lastModified, String changeVersion) {
+
+    public static <T> Versioned<T> of(T value, String version, Instant lastModified) {
+        return new Versioned<>(value, version, lastModified, null);
+    }
+
+    public <R> Versioned<R> map(Function<T, R> mapper, String suffix) {
+        return new Versioned<>(mapper.apply(value), version + suffix, lastModified, changeVersion);
+    }
+}
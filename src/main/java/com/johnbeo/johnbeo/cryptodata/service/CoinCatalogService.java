@@ -0,0 +1,65 @@
+package com.johnbeo.johnbeo.cryptodata.service;
+
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import com.johnbeo.johnbeo.cryptodata.dto.CoinSearchDto;
+import com.johnbeo.johnbeo.cryptodata.service.support.CoinCatalog;
+import com.johnbeo.johnbeo.cryptodata.service.support.MarketColumns;
+import com.johnbeo.johnbeo.cryptodata.service.support.MarketSnapshot;
+import com.johnbeo.johnbeo.cryptodata.service.support.MarketSnapshotStore;
+import com.johnbeo.johnbeo.cryptodata.service.support.RequestPriority;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CoinCatalogService {
+
+    private final CryptoDataService cryptoDataService;
+    private final MarketSnapshotStore snapshotStore;
+    private final CoinGeckoProperties properties;
+
+    private volatile CoinCatalog catalog = CoinCatalog.empty();
+
+    @Scheduled(fixedDelayString = "${coingecko.catalog.refresh-interval:PT6H}")
+    public void refresh() {
+        if (!properties.getCatalog().isEnabled()) {
+            return;
+        }
+        try {
+            CoinCatalog refreshed = RequestPriority.BACKGROUND.call(cryptoDataService::fetchCoinCatalog);
+            if (refreshed.size() == 0) {
+                log.warn("CoinGecko returned an empty coin list, keeping previous catalog");
+                return;
+            }
+            catalog = refreshed;
+            log.info("Loaded coin catalog with {} coins", refreshed.size());
+        } catch (Exception ex) {
+            log.warn("Failed to refresh coin catalog, keeping previous data", ex);
+        }
+    }
+
+    public boolean isLoaded() {
+        return catalog.size() > 0;
+    }
+
+    public boolean contains(String coinId) {
+        return catalog.contains(coinId);
+    }
+
+    public List<CoinSearchDto> search(String query, Integer limit) {
+        int maxResults = properties.getCatalog().getMaxResults();
+        int resolvedLimit = limit != null ? Math.min(Math.max(limit, 1), maxResults) : maxResults;
+        MarketColumns ranking = snapshotStore.current()
+            .find(properties.getMarket().getVsCurrency())
+            .map(MarketSnapshot.CurrencyMarkets::columns)
+            .orElse(MarketColumns.empty());
+        return catalog.search(query, resolvedLimit, coinId -> {
+            int position = ranking.indexOf(coinId);
+            return position >= 0 ? position : Integer.MAX_VALUE;
+        });
+    }
+}
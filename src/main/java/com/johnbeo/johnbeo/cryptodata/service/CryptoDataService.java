@@ -1,16 +1,34 @@
 package com.johnbeo.johnbeo.cryptodata.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.johnbeo.johnbeo.common.exception.ExternalApiException;
 import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
 import com.johnbeo.johnbeo.cryptodata.dto.CoinDetailDto;
 import com.johnbeo.johnbeo.cryptodata.dto.CoinDetailResponse;
 import com.johnbeo.johnbeo.cryptodata.dto.CoinMarketDto;
 import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
-import com.johnbeo.johnbeo.cryptodata.dto.MarketChartPoint;
-import com.johnbeo.johnbeo.cryptodata.dto.MarketChartResponse;
 import com.johnbeo.johnbeo.cryptodata.dto.SimplePriceDto;
+import com.johnbeo.johnbeo.cryptodata.dto.Versioned;
+import com.johnbeo.johnbeo.cryptodata.service.support.CachedValue;
+import com.johnbeo.johnbeo.cryptodata.service.support.ChartDownsampler;
+import com.johnbeo.johnbeo.cryptodata.service.support.ChartHistoryStore;
+import com.johnbeo.johnbeo.cryptodata.service.support.ChartTailMerger;
+import com.johnbeo.johnbeo.cryptodata.service.support.CoinCatalog;
+import com.johnbeo.johnbeo.cryptodata.service.support.CoinGeckoRateLimiter;
+import com.johnbeo.johnbeo.cryptodata.service.support.MarketColumns;
+import com.johnbeo.johnbeo.cryptodata.service.support.MarketPayloadParser;
+import com.johnbeo.johnbeo.cryptodata.service.support.MarketSnapshotStore;
+import com.johnbeo.johnbeo.cryptodata.service.support.MicroBatcher;
+import com.johnbeo.johnbeo.cryptodata.service.support.RequestPriority;
+import com.johnbeo.johnbeo.cryptodata.service.support.SingleFlight;
+import com.johnbeo.johnbeo.cryptodata.service.support.StaleWhileRevalidateCache;
+import com.johnbeo.johnbeo.cryptodata.service.support.TickStore;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -18,17 +36,23 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Slf4j
 @Service
@@ -38,232 +62,660 @@ public class CryptoDataService {
     private static final String CACHE_MARKET = "coins.market";
     private static final String CACHE_DETAIL = "coins.detail";
     private static final String CACHE_MARKET_CHART = "coins.marketChart";
+    private static final String CACHE_MARKET_CHART_SAMPLED = "coins.marketChartSampled";
     private static final String CACHE_SIMPLE_PRICE = "coins.simplePrice";
+    private static final String CACHE_SIMPLE_PRICE_UNKNOWN = "coins.simplePriceUnknown";
     private static final String CACHE_MARKET_BY_IDS = "coins.marketByIds";
 
     private final WebClient coinGeckoWebClient;
     private final CoinGeckoProperties properties;
+    private final MarketSnapshotStore snapshotStore;
+    private final SingleFlight singleFlight;
+    private final StaleWhileRevalidateCache staleWhileRevalidateCache;
+    private final CoinGeckoRateLimiter rateLimiter;
+    private final MicroBatcher microBatcher;
     private final CacheManager cacheManager;
+    private final ChartHistoryStore chartHistoryStore;
+    private final TickStore tickStore;
+    private final Scheduler fanOutScheduler;
+    private final Clock clock;
 
-    @Cacheable(value = CACHE_MARKET, key = "#vsCurrency + ':' + #perPage + ':' + #page")
     public List<CoinMarketDto> getMarketCoins(int perPage, int page, String vsCurrency) {
         String normalizedCurrency = normalizeCurrency(vsCurrency, properties.getMarket().getVsCurrency());
-        try {
-            return Objects.requireNonNull(coinGeckoWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                    .path("/coins/markets")
-                    .queryParam("vs_currency", normalizedCurrency)
-                    .queryParam("order", "market_cap_desc")
-                    .queryParam("per_page", perPage)
-                    .queryParam("page", page)
-                    .queryParam("sparkline", false)
-                    .queryParam("price_change_percentage", "24h")
-                    .build())
+        return snapshotStore.findFresh(normalizedCurrency)
+            .flatMap(markets -> markets.page(perPage, page))
+            .orElseGet(() -> staleWhileRevalidateCache.get(
+                CACHE_MARKET,
+                normalizedCurrency + ':' + perPage + ':' + page,
+                () -> requestMarketCoins(perPage, page, normalizedCurrency)
+            ));
+    }
+
+    public Mono<List<CoinMarketDto>> getMarketCoinsAsync(int perPage, int page, String vsCurrency) {
+        return getMarketCoinsVersioned(perPage, page, vsCurrency, null).map(Versioned::value);
+    }
+
+    public Mono<Versioned<List<CoinMarketDto>>> getMarketCoinsVersioned(
+        int perPage,
+        int page,
+        String vsCurrency,
+        String sinceVersion
+    ) {
+        String normalizedCurrency = normalizeCurrency(vsCurrency, properties.getMarket().getVsCurrency());
+        return snapshotStore.findFresh(normalizedCurrency)
+            .flatMap(markets -> markets.versionedPage(perPage, page, sinceVersion))
+            .map(Mono::just)
+            .orElseGet(() -> staleWhileRevalidateCache.getEntryAsync(
+                CACHE_MARKET,
+                normalizedCurrency + ':' + perPage + ':' + page,
+                () -> rateLimited(marketColumnsCall(perPage, page, normalizedCurrency).map(MarketColumns::toDtos)),
+                Objects::nonNull
+            ).map(this::versioned));
+    }
+
+    public MarketColumns fetchMarketColumns(int perPage, int page, String vsCurrency) {
+        String normalizedCurrency = normalizeCurrency(vsCurrency, properties.getMarket().getVsCurrency());
+        return singleFlight.execute(
+            "markets:" + normalizedCurrency + ':' + perPage + ':' + page,
+            () -> {
+                rateLimiter.acquire(RequestPriority.current());
+                return marketColumnsCall(perPage, page, normalizedCurrency).block();
+            }
+        );
+    }
+
+    public CoinCatalog fetchCoinCatalog() {
+        return singleFlight.execute("coins:list", () -> {
+            rateLimiter.acquire(RequestPriority.current());
+            return coinGeckoWebClient.get()
+                .uri("/coins/list")
                 .retrieve()
-                .bodyToFlux(CoinMarketDto.class)
-                .collectList()
-                .block());
-        } catch (WebClientResponseException ex) {
-            throw toExternalApiException("CoinGecko market data", ex);
-        } catch (Exception ex) {
-            throw new ExternalApiException("Failed to fetch CoinGecko market data", ex);
-        }
+                .bodyToFlux(DataBuffer.class)
+                .as(DataBufferUtils::join)
+                .map(buffer -> readBody(buffer, MarketPayloadParser::parseCoinList))
+                .defaultIfEmpty(CoinCatalog.empty())
+                .onErrorMap(ex -> translate("CoinGecko coin list", ex))
+                .block();
+        });
+    }
+
+    private List<CoinMarketDto> requestMarketCoins(int perPage, int page, String normalizedCurrency) {
+        rateLimiter.acquire(RequestPriority.current());
+        return marketColumnsCall(perPage, page, normalizedCurrency).map(MarketColumns::toDtos).block();
     }
 
-    @Cacheable(value = CACHE_MARKET_BY_IDS, key = "#vsCurrency + ':' + #root.target.cacheKeyFor(#coinIds)")
+    private Mono<MarketColumns> marketColumnsCall(int perPage, int page, String normalizedCurrency) {
+        return coinGeckoWebClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/coins/markets")
+                .queryParam("vs_currency", normalizedCurrency)
+                .queryParam("order", "market_cap_desc")
+                .queryParam("per_page", perPage)
+                .queryParam("page", page)
+                .queryParam("sparkline", false)
+                .queryParam("price_change_percentage", "24h")
+                .build())
+            .retrieve()
+            .bodyToFlux(DataBuffer.class)
+            .as(DataBufferUtils::join)
+            .map(buffer -> readBody(buffer, body -> MarketPayloadParser.parseMarkets(body, perPage)))
+            .defaultIfEmpty(MarketColumns.empty())
+            .onErrorMap(ex -> translate("CoinGecko market data", ex));
+    }
+
+    /**
+     * Market rows for {@code coinIds} in the order they were requested, whether served from the snapshot or fetched;
+     * unknown ids are skipped.
+     */
     public List<CoinMarketDto> getMarketCoinsByIds(List<String> coinIds, String vsCurrency) {
         if (coinIds == null || coinIds.isEmpty()) {
             return List.of();
         }
-        List<String> normalizedIds = coinIds.stream()
-            .filter(StringUtils::hasText)
-            .map(id -> id.trim().toLowerCase(Locale.ROOT))
-            .collect(Collectors.toCollection(LinkedHashSet::new))
-            .stream()
-            .toList();
+        List<String> normalizedIds = normalizeCoinIds(coinIds);
         if (normalizedIds.isEmpty()) {
             return List.of();
         }
         String normalizedCurrency = normalizeCurrency(vsCurrency, properties.getMarket().getVsCurrency());
-        try {
-            return Objects.requireNonNull(coinGeckoWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                    .path("/coins/markets")
-                    .queryParam("vs_currency", normalizedCurrency)
-                    .queryParam("ids", String.join(",", normalizedIds))
-                    .queryParam("order", "market_cap_desc")
-                    .queryParam("sparkline", false)
-                    .queryParam("price_change_percentage", "24h")
-                    .build())
-                .retrieve()
-                .bodyToFlux(CoinMarketDto.class)
-                .collectList()
-                .block());
-        } catch (WebClientResponseException ex) {
-            throw toExternalApiException("CoinGecko market data by ids", ex);
-        } catch (Exception ex) {
-            throw new ExternalApiException("Failed to fetch CoinGecko market data by ids", ex);
+        Optional<List<CoinMarketDto>> fromSnapshot = snapshotStore.findFresh(normalizedCurrency)
+            .flatMap(markets -> markets.findAll(normalizedIds));
+        if (fromSnapshot.isPresent()) {
+            return fromSnapshot.get();
         }
+        Map<String, CoinMarketDto> byId = staleWhileRevalidateCache.getAll(
+            CACHE_MARKET_BY_IDS,
+            normalizedIds,
+            coinId -> normalizedCurrency + ':' + coinId,
+            ids -> indexById(requestMarketCoinsByIds(ids, normalizedCurrency))
+        );
+        return normalizedIds.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .toList();
     }
 
-    public String cacheKeyFor(List<String> coinIds) {
-        if (coinIds == null || coinIds.isEmpty()) {
-            return "";
+    /**
+     * Quotes for {@code coinIds} in every currency, keyed by coin then currency. Currencies are fetched concurrently
+     * on the fan-out scheduler (virtual threads when enabled, bounded elastic otherwise) rather than the pooled task
+     * executor, so a caller that is itself a pool thread cannot starve the fetches it waits on. A currency that fails or misses the deadline is left out; only
+     * when every currency fails is the error thrown.
+     */
+    public Map<String, Map<String, CoinMarketDto>> getMarketQuotes(List<String> coinIds, List<String> vsCurrencies) {
+        List<String> normalizedIds = normalizeCoinIds(coinIds);
+        if (normalizedIds.isEmpty() || vsCurrencies == null || vsCurrencies.isEmpty()) {
+            return Map.of();
         }
-        return coinIds.stream()
-            .filter(StringUtils::hasText)
-            .map(id -> id.trim().toLowerCase(Locale.ROOT))
-            .collect(Collectors.joining(","));
+        RequestPriority priority = RequestPriority.current();
+        Duration deadline = properties.getMarket().getMultiCurrencyTimeout();
+        Set<String> currencies = new LinkedHashSet<>();
+        vsCurrencies.forEach(currency -> currencies.add(normalizeCurrency(currency, properties.getMarket().getVsCurrency())));
+        List<CurrencyQuotes> results = Flux.fromIterable(currencies)
+            .flatMapSequential(currency -> Mono
+                .fromCallable(() -> priority.call(() -> getMarketCoinsByIds(normalizedIds, currency)))
+                .subscribeOn(fanOutScheduler)
+                .timeout(deadline)
+                .map(coins -> new CurrencyQuotes(currency, coins, null))
+                .onErrorResume(ex -> Mono.just(new CurrencyQuotes(currency, List.of(), ex))))
+            .collectList()
+            .block();
+
+        Map<String, Map<String, CoinMarketDto>> quotes = new LinkedHashMap<>();
+        normalizedIds.forEach(coinId -> quotes.put(coinId, new LinkedHashMap<>()));
+        RuntimeException failure = null;
+        boolean anyCompleted = false;
+        for (CurrencyQuotes result : results) {
+            if (result.failure() instanceof TimeoutException) {
+                log.warn("CoinGecko {} quotes missed the multi-currency deadline", result.currency());
+                failure = new ExternalApiException("Timed out fetching CoinGecko " + result.currency() + " quotes");
+                continue;
+            }
+            if (result.failure() != null) {
+                log.warn("CoinGecko {} quotes failed: {}", result.currency(), result.failure().getMessage());
+                failure = result.failure() instanceof RuntimeException runtimeException
+                    ? runtimeException
+                    : new ExternalApiException("Failed to fetch CoinGecko " + result.currency() + " quotes", result.failure());
+                continue;
+            }
+            for (CoinMarketDto coin : result.coins()) {
+                Map<String, CoinMarketDto> byCurrency = coin.id() == null ? null : quotes.get(coin.id().toLowerCase(Locale.ROOT));
+                if (byCurrency != null) {
+                    byCurrency.put(result.currency(), coin);
+                }
+            }
+            anyCompleted = true;
+        }
+        if (!anyCompleted && failure != null) {
+            throw failure;
+        }
+        quotes.values().removeIf(Map::isEmpty);
+        return quotes;
+    }
+
+    private Map<String, CoinMarketDto> indexById(List<CoinMarketDto> coins) {
+        Map<String, CoinMarketDto> byId = new LinkedHashMap<>();
+        for (CoinMarketDto coin : coins) {
+            if (StringUtils.hasText(coin.id())) {
+                byId.putIfAbsent(coin.id().toLowerCase(Locale.ROOT), coin);
+            }
+        }
+        return byId;
+    }
+
+    private List<CoinMarketDto> requestMarketCoinsByIds(List<String> normalizedIds, String normalizedCurrency) {
+        rateLimiter.acquire(RequestPriority.current());
+        return coinGeckoWebClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/coins/markets")
+                .queryParam("vs_currency", normalizedCurrency)
+                .queryParam("ids", String.join(",", normalizedIds))
+                .queryParam("order", "market_cap_desc")
+                .queryParam("sparkline", false)
+                .queryParam("price_change_percentage", "24h")
+                .build())
+            .retrieve()
+            .bodyToFlux(DataBuffer.class)
+            .as(DataBufferUtils::join)
+            .map(buffer -> readBody(buffer, body -> MarketPayloadParser.parseMarkets(body, normalizedIds.size())))
+            .defaultIfEmpty(MarketColumns.empty())
+            .map(MarketColumns::toDtos)
+            .onErrorMap(ex -> translate("CoinGecko market data by ids", ex))
+            .block();
     }
 
-    @Cacheable(value = CACHE_DETAIL, key = "#coinId + ':' + #vsCurrency")
     public CoinDetailDto getCoinDetail(String coinId, String vsCurrency) {
         String normalizedCurrency = normalizeCurrency(vsCurrency, properties.getMarket().getVsCurrency());
-        String cacheKey = detailCacheKey(coinId, normalizedCurrency);
-        try {
-            CoinDetailResponse response = coinGeckoWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                    .path("/coins/{id}")
-                    .queryParam("localization", false)
-                    .queryParam("tickers", false)
-                    .queryParam("market_data", true)
-                    .queryParam("community_data", false)
-                    .queryParam("developer_data", false)
-                    .queryParam("sparkline", false)
-                    .build(coinId))
-                .retrieve()
-                .bodyToMono(CoinDetailResponse.class)
-                .block();
+        return staleWhileRevalidateCache.get(
+            CACHE_DETAIL,
+            detailCacheKey(coinId, normalizedCurrency),
+            () -> requestCoinDetail(coinId, normalizedCurrency)
+        );
+    }
 
-            if (response == null) {
-                throw new ExternalApiException("CoinGecko returned empty response for coin detail");
-            }
+    public Mono<CoinDetailDto> getCoinDetailAsync(String coinId, String vsCurrency) {
+        return getCoinDetailVersioned(coinId, vsCurrency).map(Versioned::value);
+    }
 
-            return toCoinDetailDto(response, normalizedCurrency);
-        } catch (WebClientResponseException ex) {
-            if (ex.getStatusCode().value() == 429) {
-                CoinDetailDto cached = getCachedCoinDetail(cacheKey);
-                if (cached != null) {
-                    log.warn("CoinGecko rate limit hit for coin detail [{}], serving cached data", cacheKey);
-                    return cached;
-                }
-                throw new ExternalApiException("CoinGecko rate limit exceeded. Please try again in a moment.", ex);
-            }
-            throw toExternalApiException("CoinGecko coin detail", ex);
-        } catch (Exception ex) {
-            throw new ExternalApiException("Failed to fetch CoinGecko coin detail", ex);
-        }
+    public Mono<Versioned<CoinDetailDto>> getCoinDetailVersioned(String coinId, String vsCurrency) {
+        String normalizedCurrency = normalizeCurrency(vsCurrency, properties.getMarket().getVsCurrency());
+        return staleWhileRevalidateCache.getEntryAsync(
+            CACHE_DETAIL,
+            detailCacheKey(coinId, normalizedCurrency),
+            () -> rateLimited(coinDetailCall(coinId, normalizedCurrency)),
+            Objects::nonNull
+        ).map(this::versioned);
+    }
+
+    private CoinDetailDto requestCoinDetail(String coinId, String normalizedCurrency) {
+        rateLimiter.acquire(RequestPriority.current());
+        return coinDetailCall(coinId, normalizedCurrency).block();
+    }
+
+    private Mono<CoinDetailDto> coinDetailCall(String coinId, String normalizedCurrency) {
+        return coinGeckoWebClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/coins/{id}")
+                .queryParam("localization", false)
+                .queryParam("tickers", false)
+                .queryParam("market_data", true)
+                .queryParam("community_data", false)
+                .queryParam("developer_data", false)
+                .queryParam("sparkline", false)
+                .build(coinId))
+            .retrieve()
+            .bodyToMono(CoinDetailResponse.class)
+            .switchIfEmpty(Mono.error(() -> new ExternalApiException("CoinGecko returned empty response for coin detail")))
+            .map(response -> toCoinDetailDto(response, normalizedCurrency))
+            .onErrorMap(WebClientResponseException.TooManyRequests.class,
+                ex -> new ExternalApiException("CoinGecko rate limit exceeded. Please try again in a moment.", ex))
+            .onErrorMap(ex -> translate("CoinGecko coin detail", ex));
     }
 
-    @Cacheable(
-        value = CACHE_MARKET_CHART,
-        key = "#coinId + ':' + #days + ':' + #vsCurrency",
-        unless = "#result == null || (#result.prices().isEmpty() && #result.marketCaps().isEmpty() && #result.totalVolumes().isEmpty())"
-    )
     public MarketChartDto getMarketChart(String coinId, int days, String vsCurrency) {
         String normalizedCurrency = normalizeCurrency(vsCurrency, properties.getMarket().getVsCurrency());
+        Optional<MarketChartDto> local = tickStore.chart(coinId, normalizedCurrency, days);
+        if (local.isPresent()) {
+            return local.get();
+        }
         String cacheKey = cacheKey(coinId, days, normalizedCurrency);
-        try {
-            MarketChartResponse response = coinGeckoWebClient.get()
-                .uri(uriBuilder -> {
-                    var builder = uriBuilder
-                        .path("/coins/{id}/market_chart")
-                        .queryParam("vs_currency", normalizedCurrency)
-                        .queryParam("days", days);
-                    if (days >= 90) {
-                        builder = builder.queryParam("interval", "daily");
-                    }
-                    return builder.build(coinId);
-                })
-                .retrieve()
-                .bodyToMono(MarketChartResponse.class)
-                .block();
+        return staleWhileRevalidateCache.get(
+            CACHE_MARKET_CHART,
+            cacheKey,
+            () -> requestMarketChart(coinId, days, normalizedCurrency, cacheKey),
+            chart -> chart != null && !isEmpty(chart)
+        );
+    }
 
-            if (response == null) {
-                throw new ExternalApiException("CoinGecko returned empty response for market chart");
-            }
+    public Mono<MarketChartDto> getMarketChartAsync(String coinId, int days, String vsCurrency) {
+        return getMarketChartVersioned(coinId, days, vsCurrency, null).map(Versioned::value);
+    }
+
+    public MarketChartDto getMarketChart(String coinId, int days, String vsCurrency, Integer maxPoints) {
+        MarketChartDto chart = getMarketChart(coinId, days, vsCurrency);
+        if (maxPoints == null) {
+            return chart;
+        }
+        return downsampled(chart, cacheKey(coinId, days, normalizeCurrency(vsCurrency, properties.getMarket().getVsCurrency())), maxPoints);
+    }
+
+    public Mono<MarketChartDto> getMarketChartAsync(String coinId, int days, String vsCurrency, Integer maxPoints) {
+        return getMarketChartVersioned(coinId, days, vsCurrency, maxPoints).map(Versioned::value);
+    }
+
+    public Mono<Versioned<MarketChartDto>> getMarketChartVersioned(
+        String coinId,
+        int days,
+        String vsCurrency,
+        Integer maxPoints
+    ) {
+        String normalizedCurrency = normalizeCurrency(vsCurrency, properties.getMarket().getVsCurrency());
+        String cacheKey = cacheKey(coinId, days, normalizedCurrency);
+        Mono<Versioned<MarketChartDto>> chart = tickStore.chart(coinId, normalizedCurrency, days)
+            .map(local -> Mono.just(Versioned.of(local, "t" + local.contentVersion(), lastPointTime(local))))
+            .orElseGet(() -> staleWhileRevalidateCache.getEntryAsync(
+                CACHE_MARKET_CHART,
+                cacheKey,
+                () -> rateLimited(Mono.defer(() -> marketChartLoad(coinId, days, normalizedCurrency, cacheKey))),
+                (MarketChartDto value) -> value != null && !isEmpty(value)
+            ).map(this::versioned));
+        if (maxPoints == null) {
+            return chart;
+        }
+        int points = ChartDownsampler.bucketPoints(maxPoints);
+        return chart.map(full -> full.map(value -> downsampled(value, cacheKey, points), "-" + points));
+    }
+
+    private MarketChartDto downsampled(MarketChartDto chart, String cacheKey, int maxPoints) {
+        int threshold = ChartDownsampler.bucketPoints(maxPoints);
+        if (chart.priceSeries().size() <= threshold
+            && chart.marketCapSeries().size() <= threshold
+            && chart.totalVolumeSeries().size() <= threshold) {
+            return chart;
+        }
+        Cache cache = requireCache(CACHE_MARKET_CHART_SAMPLED);
+        String sampledKey = cacheKey + ':' + threshold;
+        String sourceVersion = chart.contentVersion();
+        SampledChart cached = cache.get(sampledKey, SampledChart.class);
+        if (cached != null && cached.sourceVersion().equals(sourceVersion)) {
+            return cached.chart();
+        }
+        MarketChartDto sampled = ChartDownsampler.downsample(chart, threshold);
+        cache.put(sampledKey, new SampledChart(sourceVersion, sampled));
+        return sampled;
+    }
+
+    private Instant lastPointTime(MarketChartDto chart) {
+        long last = ChartTailMerger.tailStart(chart);
+        return last >= 0 ? Instant.ofEpochMilli(last) : clock.instant();
+    }
+
+    private <T> Versioned<T> versioned(CachedValue<T> entry) {
+        return Versioned.of(entry.value(), entry.version(), entry.lastModified());
+    }
+
+    private MarketChartDto requestMarketChart(String coinId, int days, String normalizedCurrency, String cacheKey) {
+        rateLimiter.acquire(RequestPriority.current());
+        return marketChartLoad(coinId, days, normalizedCurrency, cacheKey).block();
+    }
+
+    private Mono<MarketChartDto> marketChartLoad(String coinId, int days, String normalizedCurrency, String cacheKey) {
+        long now = clock.millis();
+        long windowStart = now - Duration.ofDays(days).toMillis();
+        MarketChartDto cached = staleWhileRevalidateCache.peek(CACHE_MARKET_CHART, cacheKey);
+        if (cached == null) {
+            cached = storedHistory(coinId, days, normalizedCurrency, windowStart);
+        }
+        long tailStart = cached != null ? ChartTailMerger.tailStart(cached) : -1;
+        Mono<MarketChartDto> load;
+        if (tailStart < windowStart) {
+            load = marketChartCall(coinId, days, normalizedCurrency, cacheKey);
+        } else {
+            MarketChartDto base = cached;
+            load = marketChartTailCall(coinId, normalizedCurrency, tailStart, now)
+                .map(tail -> ChartTailMerger.merge(base, tail, windowStart, ChartTailMerger.bucketFor(days)));
+        }
+        return load.doOnNext(chart -> fanOutScheduler
+            .schedule(() -> chartHistoryStore.append(coinId, normalizedCurrency, days, chart)));
+    }
+
+    private MarketChartDto storedHistory(String coinId, int days, String normalizedCurrency, long windowStart) {
+        MarketChartDto history = chartHistoryStore.read(coinId, normalizedCurrency, days);
+        if (history.priceSeries().isEmpty()) {
+            return null;
+        }
+        long tolerance = Math.max(ChartTailMerger.bucketFor(days).toMillis(), Duration.ofHours(1).toMillis());
+        return history.priceSeries().timestamp(0) <= windowStart + tolerance ? history : null;
+    }
 
-            return new MarketChartDto(
-                mapToPoints(response.prices()),
-                mapToPoints(response.marketCaps()),
-                mapToPoints(response.totalVolumes())
-            );
-        } catch (WebClientResponseException ex) {
-            if (ex.getStatusCode().value() == 429) {
-                MarketChartDto fallback = getCachedMarketChart(cacheKey);
-                if (fallback != null) {
-                    log.warn("CoinGecko rate limit hit for chart [{}], serving cached data", cacheKey);
-                    return fallback;
+    private Mono<MarketChartDto> marketChartTailCall(String coinId, String normalizedCurrency, long fromMillis, long toMillis) {
+        return coinGeckoWebClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/coins/{id}/market_chart/range")
+                .queryParam("vs_currency", normalizedCurrency)
+                .queryParam("from", fromMillis / 1000)
+                .queryParam("to", toMillis / 1000 + 1)
+                .build(coinId))
+            .retrieve()
+            .bodyToFlux(DataBuffer.class)
+            .as(DataBufferUtils::join)
+            .map(buffer -> readBody(buffer, MarketPayloadParser::parseMarketChart))
+            .defaultIfEmpty(MarketChartDto.empty())
+            .onErrorMap(ex -> translate("CoinGecko market chart range", ex));
+    }
+
+    private Mono<MarketChartDto> marketChartCall(String coinId, int days, String normalizedCurrency, String cacheKey) {
+        return coinGeckoWebClient.get()
+            .uri(uriBuilder -> {
+                var builder = uriBuilder
+                    .path("/coins/{id}/market_chart")
+                    .queryParam("vs_currency", normalizedCurrency)
+                    .queryParam("days", days);
+                if (days >= 90) {
+                    builder = builder.queryParam("interval", "daily");
                 }
+                return builder.build(coinId);
+            })
+            .retrieve()
+            .bodyToFlux(DataBuffer.class)
+            .as(DataBufferUtils::join)
+            .switchIfEmpty(Mono.error(() -> new ExternalApiException("CoinGecko returned empty response for market chart")))
+            .map(buffer -> readBody(buffer, MarketPayloadParser::parseMarketChart))
+            .onErrorResume(WebClientResponseException.TooManyRequests.class, ex -> {
                 log.warn("CoinGecko rate limit hit for chart [{}], serving empty dataset", cacheKey);
-                return MarketChartDto.empty();
-            }
-            throw toExternalApiException("CoinGecko market chart", ex);
-        } catch (Exception ex) {
-            throw new ExternalApiException("Failed to fetch CoinGecko market chart", ex);
-        }
+                return Mono.just(MarketChartDto.empty());
+            })
+            .onErrorMap(ex -> translate("CoinGecko market chart", ex));
     }
 
-    @Cacheable(value = CACHE_SIMPLE_PRICE, key = "#coinIds + ':' + #vsCurrency")
+    /**
+     * Prices keyed by the ids as the caller spelled them, in request order. Ids CoinGecko does not know are
+     * remembered for a short while so repeated lookups do not reach upstream, and a lookup that finds no other
+     * batch open or loading skips the batch window.
+     */
     public Map<String, SimplePriceDto> getSimplePrices(List<String> coinIds, String vsCurrency) {
-        if (coinIds == null || coinIds.isEmpty()) {
+        Map<String, String> requestedKeys = requestedKeys(coinIds);
+        if (requestedKeys.isEmpty()) {
             throw new IllegalArgumentException("coinIds must not be empty");
         }
+        List<String> normalizedIds = List.copyOf(requestedKeys.keySet());
         String normalizedCurrency = normalizeCurrency(vsCurrency, properties.getSimplePrice().getVsCurrency());
-        try {
-            JsonNode root = coinGeckoWebClient.get()
-                .uri(uriBuilder -> uriBuilder
-                    .path("/simple/price")
-                    .queryParam("ids", String.join(",", coinIds))
-                    .queryParam("vs_currencies", normalizedCurrency)
-                    .queryParam("include_24hr_change", properties.getSimplePrice().isInclude24hChange())
-                    .build())
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .block();
+        Optional<Map<String, SimplePriceDto>> fromSnapshot = snapshotStore.findFresh(normalizedCurrency)
+            .flatMap(markets -> markets.findAll(normalizedIds))
+            .map(this::toSimplePrices);
+        if (fromSnapshot.isPresent()) {
+            return inRequestOrder(requestedKeys, fromSnapshot.get());
+        }
+
+        Cache cache = requireCache(CACHE_SIMPLE_PRICE);
+        Map<String, SimplePriceDto> found = cachedSimplePrices(cache, normalizedCurrency, normalizedIds);
+        List<String> missing = missingIds(normalizedCurrency, normalizedIds, found);
+        if (!missing.isEmpty()) {
+            String batchKey = "simplePrice:" + normalizedCurrency;
+            found.putAll(microBatcher.load(
+                batchKey,
+                missing,
+                batchWindow(batchKey),
+                ids -> loadSimplePriceBatch(ids, normalizedCurrency, cache)
+            ));
+        }
+        return inRequestOrder(requestedKeys, found);
+    }
+
+    public Mono<Map<String, SimplePriceDto>> getSimplePricesAsync(List<String> coinIds, String vsCurrency) {
+        Map<String, String> requestedKeys = requestedKeys(coinIds);
+        if (requestedKeys.isEmpty()) {
+            return Mono.error(new IllegalArgumentException("coinIds must not be empty"));
+        }
+        List<String> normalizedIds = List.copyOf(requestedKeys.keySet());
+        String normalizedCurrency = normalizeCurrency(vsCurrency, properties.getSimplePrice().getVsCurrency());
+        Optional<Map<String, SimplePriceDto>> fromSnapshot = snapshotStore.findFresh(normalizedCurrency)
+            .flatMap(markets -> markets.findAll(normalizedIds))
+            .map(this::toSimplePrices);
+        if (fromSnapshot.isPresent()) {
+            return Mono.just(inRequestOrder(requestedKeys, fromSnapshot.get()));
+        }
+
+        Cache cache = requireCache(CACHE_SIMPLE_PRICE);
+        Map<String, SimplePriceDto> found = cachedSimplePrices(cache, normalizedCurrency, normalizedIds);
+        List<String> missing = missingIds(normalizedCurrency, normalizedIds, found);
+        if (missing.isEmpty()) {
+            return Mono.just(inRequestOrder(requestedKeys, found));
+        }
+        String batchKey = "simplePrice:" + normalizedCurrency;
+        return microBatcher.loadAsync(
+                batchKey,
+                missing,
+                batchWindow(batchKey),
+                ids -> loadSimplePriceBatchAsync(ids, normalizedCurrency, cache)
+            )
+            .map(loaded -> {
+                found.putAll(loaded);
+                return inRequestOrder(requestedKeys, found);
+            });
+    }
+
+    private Duration batchWindow(String batchKey) {
+        return microBatcher.isIdle(batchKey) ? Duration.ZERO : properties.getSimplePrice().getBatchWindow();
+    }
+
+    private Map<String, SimplePriceDto> loadSimplePriceBatch(List<String> coinIds, String normalizedCurrency, Cache cache) {
+        Map<String, SimplePriceDto> prices = new LinkedHashMap<>();
+        for (List<String> chunk : partitionByLength(coinIds, properties.getSimplePrice().getMaxIdsLength())) {
+            rateLimiter.acquire(RequestPriority.current());
+            prices.putAll(simplePriceCall(chunk, normalizedCurrency).block());
+        }
+        return cacheSimplePrices(cache, normalizedCurrency, coinIds, prices);
+    }
+
+    private Mono<Map<String, SimplePriceDto>> loadSimplePriceBatchAsync(List<String> coinIds, String normalizedCurrency, Cache cache) {
+        return Flux.fromIterable(partitionByLength(coinIds, properties.getSimplePrice().getMaxIdsLength()))
+            .concatMap(chunk -> rateLimited(simplePriceCall(chunk, normalizedCurrency)))
+            .collect(() -> new LinkedHashMap<String, SimplePriceDto>(), Map::putAll)
+            .map(prices -> cacheSimplePrices(cache, normalizedCurrency, coinIds, prices));
+    }
+
+    private Mono<Map<String, SimplePriceDto>> simplePriceCall(List<String> coinIds, String normalizedCurrency) {
+        return coinGeckoWebClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path("/simple/price")
+                .queryParam("ids", String.join(",", coinIds))
+                .queryParam("vs_currencies", normalizedCurrency)
+                .queryParam("include_24hr_change", properties.getSimplePrice().isInclude24hChange())
+                .build())
+            .retrieve()
+            .bodyToFlux(DataBuffer.class)
+            .as(DataBufferUtils::join)
+            .switchIfEmpty(Mono.error(() -> new ExternalApiException("CoinGecko returned empty response for simple price")))
+            .map(buffer -> readBody(buffer, body -> MarketPayloadParser.parseSimplePrices(body, coinIds, normalizedCurrency)))
+            .onErrorMap(ex -> translate("CoinGecko simple price", ex));
+    }
+
+    private Map<String, SimplePriceDto> cachedSimplePrices(Cache cache, String normalizedCurrency, List<String> coinIds) {
+        Map<String, SimplePriceDto> found = new LinkedHashMap<>();
+        for (String coinId : coinIds) {
+            SimplePriceDto cached = cache.get(simplePriceCacheKey(normalizedCurrency, coinId), SimplePriceDto.class);
+            if (cached != null) {
+                found.put(coinId, cached);
+            }
+        }
+        return found;
+    }
+
+    private Map<String, SimplePriceDto> cacheSimplePrices(
+        Cache cache,
+        String normalizedCurrency,
+        List<String> requested,
+        Map<String, SimplePriceDto> prices
+    ) {
+        prices.forEach((coinId, price) -> cache.put(simplePriceCacheKey(normalizedCurrency, coinId), price));
+        Cache unknown = requireCache(CACHE_SIMPLE_PRICE_UNKNOWN);
+        requested.stream()
+            .filter(coinId -> !prices.containsKey(coinId))
+            .forEach(coinId -> unknown.put(simplePriceCacheKey(normalizedCurrency, coinId), Boolean.TRUE));
+        return prices;
+    }
+
+    private List<String> missingIds(String normalizedCurrency, List<String> coinIds, Map<String, SimplePriceDto> found) {
+        Cache unknown = requireCache(CACHE_SIMPLE_PRICE_UNKNOWN);
+        return coinIds.stream()
+            .filter(coinId -> !found.containsKey(coinId))
+            .filter(coinId -> unknown.get(simplePriceCacheKey(normalizedCurrency, coinId)) == null)
+            .toList();
+    }
 
-            if (root == null) {
-                throw new ExternalApiException("CoinGecko returned empty response for simple price");
+    private Map<String, SimplePriceDto> inRequestOrder(Map<String, String> requestedKeys, Map<String, SimplePriceDto> prices) {
+        Map<String, SimplePriceDto> result = new LinkedHashMap<>();
+        requestedKeys.forEach((coinId, requestedKey) -> {
+            SimplePriceDto price = prices.get(coinId);
+            if (price != null) {
+                result.put(requestedKey, price);
             }
+        });
+        return result;
+    }
 
-            Map<String, SimplePriceDto> result = new LinkedHashMap<>();
+    private Map<String, String> requestedKeys(List<String> coinIds) {
+        Map<String, String> requestedKeys = new LinkedHashMap<>();
+        if (coinIds != null) {
             for (String coinId : coinIds) {
-                JsonNode coinNode = root.get(coinId);
-                if (coinNode == null || coinNode.isNull()) {
-                    continue;
-                }
-                JsonNode priceNode = coinNode.get(normalizedCurrency);
-                if (priceNode == null || priceNode.isNull()) {
-                    continue;
+                if (StringUtils.hasText(coinId)) {
+                    requestedKeys.putIfAbsent(coinId.trim().toLowerCase(Locale.ROOT), coinId.trim());
                 }
-                BigDecimal price = priceNode.decimalValue();
-                BigDecimal change24h = Optional.ofNullable(coinNode.get(normalizedCurrency + "_24h_change"))
-                    .map(JsonNode::decimalValue)
-                    .orElse(null);
-                result.put(coinId, new SimplePriceDto(price, change24h));
             }
-            return result;
-        } catch (WebClientResponseException ex) {
-            throw toExternalApiException("CoinGecko simple price", ex);
-        } catch (Exception ex) {
-            throw new ExternalApiException("Failed to fetch CoinGecko simple price", ex);
         }
+        return requestedKeys;
     }
 
-    private MarketChartDto getCachedMarketChart(String cacheKey) {
-        Cache cache = cacheManager.getCache(CACHE_MARKET_CHART);
-        if (cache == null) {
-            return null;
+    private <T> T readBody(DataBuffer buffer, PayloadReader<T> reader) {
+        try (InputStream body = buffer.asInputStream(true)) {
+            return reader.read(body);
+        } catch (IOException ex) {
+            throw new ExternalApiException("Malformed CoinGecko payload", ex);
+        }
+    }
+
+    private <T> Mono<T> rateLimited(Mono<T> call) {
+        return Mono.deferContextual(context -> rateLimiter.permit(RequestPriority.current(context)))
+            .then(call);
+    }
+
+    private Map<String, SimplePriceDto> toSimplePrices(List<CoinMarketDto> coins) {
+        boolean includeChange = properties.getSimplePrice().isInclude24hChange();
+        Map<String, SimplePriceDto> result = new LinkedHashMap<>();
+        for (CoinMarketDto coin : coins) {
+            if (coin.currentPrice() == null) {
+                continue;
+            }
+            result.put(coin.id(), new SimplePriceDto(coin.currentPrice(), includeChange ? coin.priceChangePercentage24h() : null));
+        }
+        return result;
+    }
+
+    private List<String> normalizeCoinIds(List<String> coinIds) {
+        if (coinIds == null) {
+            return List.of();
+        }
+        return coinIds.stream()
+            .filter(StringUtils::hasText)
+            .map(id -> id.trim().toLowerCase(Locale.ROOT))
+            .collect(Collectors.toCollection(LinkedHashSet::new))
+            .stream()
+            .toList();
+    }
+
+    private List<List<String>> partitionByLength(List<String> ids, int maxLength) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int length = 0;
+        for (String id : ids) {
+            int separator = current.isEmpty() ? 0 : 1;
+            if (!current.isEmpty() && length + separator + id.length() > maxLength) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                length = 0;
+                separator = 0;
+            }
+            current.add(id);
+            length += separator + id.length();
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
         }
-        return cache.get(cacheKey, MarketChartDto.class);
+        return chunks;
     }
 
-    private CoinDetailDto getCachedCoinDetail(String cacheKey) {
-        Cache cache = cacheManager.getCache(CACHE_DETAIL);
+    private Cache requireCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
         if (cache == null) {
-            return null;
+            throw new IllegalStateException("Cache not configured: " + cacheName);
         }
-        return cache.get(cacheKey, CoinDetailDto.class);
+        return cache;
+    }
+
+    private String simplePriceCacheKey(String vsCurrency, String coinId) {
+        return vsCurrency + ':' + coinId;
+    }
+
+    private boolean isEmpty(MarketChartDto chart) {
+        return chart.priceSeries().isEmpty() && chart.marketCapSeries().isEmpty() && chart.totalVolumeSeries().isEmpty();
     }
 
     private String cacheKey(String coinId, int days, String vsCurrency) {
@@ -305,24 +757,35 @@ public class CryptoDataService {
         );
     }
 
-    private List<MarketChartPoint> mapToPoints(List<List<BigDecimal>> values) {
-        if (values == null) {
-            return List.of();
-        }
-        return values.stream()
-            .filter(list -> list.size() >= 2)
-            .map(list -> new MarketChartPoint(list.get(0).longValue(), list.get(1)))
-            .collect(Collectors.toList());
-    }
-
     private String normalizeCurrency(String currency, String defaultCurrency) {
         String value = StringUtils.hasText(currency) ? currency : defaultCurrency;
         return value == null ? "usd" : value.toLowerCase(Locale.ROOT);
     }
 
+    private Throwable translate(String label, Throwable ex) {
+        if (ex instanceof ExternalApiException) {
+            return ex;
+        }
+        if (ex instanceof WebClientResponseException responseException) {
+            return toExternalApiException(label, responseException);
+        }
+        return new ExternalApiException("Failed to fetch " + label, ex);
+    }
+
     private ExternalApiException toExternalApiException(String label, WebClientResponseException ex) {
         HttpStatusCode statusCode = ex.getStatusCode();
         String message = String.format("%s error (status: %d): %s", label, statusCode.value(), ex.getResponseBodyAsString());
         return new ExternalApiException(message, ex);
     }
+
+    private record CurrencyQuotes(String currency, List<CoinMarketDto> coins, Throwable failure) {
+    }
+
+    private record SampledChart(String sourceVersion, MarketChartDto chart) {
+    }
+
+    @FunctionalInterface
+    private interface PayloadReader<T> {
+        T read(InputStream body) throws IOException;
+    }
 }
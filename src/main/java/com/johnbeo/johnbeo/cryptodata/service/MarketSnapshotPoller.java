@@ -0,0 +1,64 @@
+package com.johnbeo.johnbeo.cryptodata.service;
+
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import com.johnbeo.johnbeo.cryptodata.service.support.MarketColumns;
+import com.johnbeo.johnbeo.cryptodata.service.support.MarketSnapshotStore;
+import com.johnbeo.johnbeo.cryptodata.service.support.RequestPriority;
+import com.johnbeo.johnbeo.cryptodata.service.support.TickStore;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "coingecko.snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MarketSnapshotPoller {
+
+    private static final int MAX_PER_PAGE = 250;
+
+    private final CryptoDataService cryptoDataService;
+    private final MarketSnapshotStore snapshotStore;
+    private final TickStore tickStore;
+    private final PriceStreamService priceStreamService;
+    private final CoinGeckoProperties properties;
+
+    @Scheduled(fixedDelayString = "${coingecko.snapshot.refresh-interval:PT30S}")
+    public void refresh() {
+        RequestPriority.BACKGROUND.run(this::refreshAll);
+    }
+
+    private void refreshAll() {
+        for (String currency : properties.getSnapshot().getCurrencies()) {
+            try {
+                MarketColumns markets = fetchTopMarkets(currency, properties.getSnapshot().getSize());
+                snapshotStore.publish(currency, markets);
+                tickStore.record(currency, markets);
+                priceStreamService.publish(currency, markets);
+            } catch (Exception ex) {
+                log.warn("Failed to refresh market snapshot [{}], keeping previous data", currency, ex);
+            }
+        }
+    }
+
+    private MarketColumns fetchTopMarkets(String currency, int size) {
+        List<MarketColumns> pages = new ArrayList<>();
+        int fetched = 0;
+        int page = 1;
+        while (fetched < size) {
+            int perPage = Math.min(MAX_PER_PAGE, size);
+            MarketColumns batch = cryptoDataService.fetchMarketColumns(perPage, page, currency);
+            pages.add(batch);
+            fetched += batch.size();
+            if (batch.size() < perPage) {
+                break;
+            }
+            page++;
+        }
+        return pages.size() == 1 && fetched <= size ? pages.get(0) : MarketColumns.concat(pages, size);
+    }
+}
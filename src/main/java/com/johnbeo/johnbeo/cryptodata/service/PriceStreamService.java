@@ -0,0 +1,183 @@
+package com.johnbeo.johnbeo.cryptodata.service;
+
+import com.johnbeo.johnbeo.cryptodata.dto.PriceChange;
+import com.johnbeo.johnbeo.cryptodata.dto.PriceStreamEvent;
+import com.johnbeo.johnbeo.cryptodata.service.support.MarketColumns;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Fans poller snapshots out to SSE subscribers. Each publish is diffed against the previous one per currency and
+ * only changed fields are emitted under a global sequence number. Event ids are {@code epoch-sequence}, where the
+ * epoch is random per process. Recent updates are replayed to new subscribers, so a reconnect with Last-Event-ID
+ * from this process resumes without gaps. Anyone further behind, holding an id from another process, or too slow
+ * to keep up with its buffer gets a fresh snapshot instead of a silent gap.
+ */
+@Slf4j
+@Service
+public class PriceStreamService {
+
+    private static final int REPLAY_SIZE = 256;
+    private static final int SUBSCRIBER_BUFFER = 64;
+
+    private final String epoch = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Map<String, double[]>> latest = new HashMap<>();
+    private final Sinks.Many<PriceStreamEvent> sink = Sinks.many().replay().limit(REPLAY_SIZE);
+    private long sequence;
+    private long oldestReplayed = 1;
+
+    public void publish(String vsCurrency, MarketColumns columns) {
+        String currency = vsCurrency.toLowerCase(Locale.ROOT);
+        lock.lock();
+        try {
+            Map<String, double[]> previous = latest.computeIfAbsent(currency, ignored -> new HashMap<>());
+            List<PriceChange> changes = new ArrayList<>();
+            for (int i = 0; i < columns.size(); i++) {
+                String coinId = columns.id(i);
+                double price = columns.currentPrice(i);
+                if (coinId == null || Double.isNaN(price)) {
+                    continue;
+                }
+                double change = columns.priceChangePercentage24h(i);
+                double[] last = previous.put(coinId.toLowerCase(Locale.ROOT), new double[] {price, change});
+                boolean priceChanged = last == null || Double.compare(last[0], price) != 0;
+                boolean changeChanged = last == null || Double.compare(last[1], change) != 0;
+                if (priceChanged || changeChanged) {
+                    changes.add(new PriceChange(
+                        coinId,
+                        priceChanged ? MarketColumns.toDecimal(price) : null,
+                        changeChanged ? MarketColumns.toDecimal(change) : null
+                    ));
+                }
+            }
+            if (changes.isEmpty()) {
+                return;
+            }
+            sequence++;
+            if (sequence - oldestReplayed >= REPLAY_SIZE) {
+                oldestReplayed = sequence - REPLAY_SIZE + 1;
+            }
+            Sinks.EmitResult result = sink.tryEmitNext(
+                new PriceStreamEvent(sequence, PriceStreamEvent.Type.UPDATE, currency, List.copyOf(changes)));
+            if (result.isFailure()) {
+                log.warn("Failed to emit price stream update [{}]: {}", sequence, result);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String eventId(PriceStreamEvent event) {
+        return epoch + '-' + event.sequence();
+    }
+
+    public Flux<PriceStreamEvent> subscribe(Collection<String> coinIds, Collection<String> currencies, String lastEventId) {
+        Set<String> wantedIds = normalize(coinIds);
+        Set<String> wantedCurrencies = normalize(currencies);
+        Long lastSequence = sequenceOf(lastEventId);
+        return Flux.defer(() -> {
+            List<PriceStreamEvent> snapshots = new ArrayList<>();
+            AtomicLong resumeAfter = new AtomicLong();
+            lock.lock();
+            try {
+                if (lastSequence != null && lastSequence >= oldestReplayed - 1 && lastSequence <= sequence) {
+                    resumeAfter.set(lastSequence);
+                } else {
+                    resumeAfter.set(sequence);
+                    snapshots.addAll(snapshots(wantedCurrencies, wantedIds));
+                }
+            } finally {
+                lock.unlock();
+            }
+            AtomicBoolean dropped = new AtomicBoolean();
+            Flux<PriceStreamEvent> updates = sink.asFlux()
+                .filter(event -> wantedCurrencies.isEmpty() || wantedCurrencies.contains(event.currency()))
+                .mapNotNull(event -> filter(event, wantedIds))
+                .onBackpressureBuffer(SUBSCRIBER_BUFFER, ignored -> dropped.set(true), BufferOverflowStrategy.DROP_OLDEST)
+                .concatMapIterable(event -> {
+                    if (dropped.getAndSet(false)) {
+                        return resync(wantedCurrencies, wantedIds, resumeAfter);
+                    }
+                    return event.sequence() > resumeAfter.get() ? List.of(event) : List.of();
+                }, 1);
+            return Flux.fromIterable(snapshots).concatWith(updates);
+        });
+    }
+
+    private Long sequenceOf(String eventId) {
+        if (eventId == null || !eventId.startsWith(epoch + '-')) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private List<PriceStreamEvent> resync(Set<String> wantedCurrencies, Set<String> wantedIds, AtomicLong resumeAfter) {
+        lock.lock();
+        try {
+            resumeAfter.set(sequence);
+            return snapshots(wantedCurrencies, wantedIds);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<PriceStreamEvent> snapshots(Set<String> wantedCurrencies, Set<String> wantedIds) {
+        List<PriceStreamEvent> snapshots = new ArrayList<>();
+        latest.forEach((currency, prices) -> {
+            if (wantedCurrencies.isEmpty() || wantedCurrencies.contains(currency)) {
+                snapshots.add(snapshot(currency, prices, wantedIds));
+            }
+        });
+        return snapshots;
+    }
+
+    private PriceStreamEvent snapshot(String currency, Map<String, double[]> prices, Set<String> wantedIds) {
+        List<PriceChange> changes = new ArrayList<>();
+        prices.forEach((coinId, values) -> {
+            if (wantedIds.isEmpty() || wantedIds.contains(coinId)) {
+                changes.add(new PriceChange(coinId, MarketColumns.toDecimal(values[0]), MarketColumns.toDecimal(values[1])));
+            }
+        });
+        return new PriceStreamEvent(sequence, PriceStreamEvent.Type.SNAPSHOT, currency, changes);
+    }
+
+    private PriceStreamEvent filter(PriceStreamEvent event, Set<String> wantedIds) {
+        if (wantedIds.isEmpty()) {
+            return event;
+        }
+        List<PriceChange> changes = event.changes().stream()
+            .filter(change -> wantedIds.contains(change.coinId().toLowerCase(Locale.ROOT)))
+            .toList();
+        return changes.isEmpty() ? null : new PriceStreamEvent(event.sequence(), event.type(), event.currency(), changes);
+    }
+
+    private Set<String> normalize(Collection<String> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        return values.stream()
+            .filter(value -> value != null && !value.isBlank())
+            .map(value -> value.trim().toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,37 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cached value with the version used for its ETag. Versions come from a per-process random epoch plus a counter
+ * and are only bumped when a refresh returns a value that is not {@code equals} to the previous one, so a changed
+ * value can never keep an old ETag.
+ */
+public record CachedValue<T>(T value, Instant fetchedAt, String version, Instant lastModified) {
+
+    private static final String EPOCH = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    public CachedValue(T value, Instant fetchedAt) {
+        this(value, fetchedAt, nextVersion(), fetchedAt);
+    }
+
+    public static <T> CachedValue<T> replacing(CachedValue<T> previous, T value, Instant fetchedAt) {
+        if (previous != null && Objects.equals(previous.value(), value)) {
+            return new CachedValue<>(value, fetchedAt, previous.version(), previous.lastModified());
+        }
+        return new CachedValue<>(value, fetchedAt, nextVersion(), fetchedAt);
+    }
+
+    private static String nextVersion() {
+        return EPOCH + '.' + Long.toString(SEQUENCE.incrementAndGet(), 36);
+    }
+
+    public boolean isOlderThan(Duration age, Instant now) {
+        return fetchedAt.plus(age).isBefore(now);
+    }
+}
@@ -0,0 +1,96 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.johnbeo.johnbeo.cryptodata.dto.ChartSeries;
+import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling. Keeps the first and last sample and, per bucket, the sample
+ * forming the largest triangle with the previously kept sample and the average of the next bucket, which
+ * preserves peaks and troughs far better than striding.
+ */
+public final class ChartDownsampler {
+
+    public static final int MIN_POINTS = 3;
+    private static final int[] POINT_BUCKETS = {60, 120, 240, 480, 720, 1080, 1440, 2000};
+
+    private ChartDownsampler() {
+    }
+
+    /**
+     * Clamps a requested point count to the largest supported bucket not above it, so arbitrary client widths
+     * share a handful of sampled variants.
+     */
+    public static int bucketPoints(int requested) {
+        int points = POINT_BUCKETS[0];
+        for (int bucket : POINT_BUCKETS) {
+            if (bucket <= requested) {
+                points = bucket;
+            }
+        }
+        return points;
+    }
+
+    public static MarketChartDto downsample(MarketChartDto chart, int maxPoints) {
+        return new MarketChartDto(
+            lttb(chart.priceSeries(), maxPoints),
+            lttb(chart.marketCapSeries(), maxPoints),
+            lttb(chart.totalVolumeSeries(), maxPoints)
+        );
+    }
+
+    public static ChartSeries lttb(ChartSeries series, int maxPoints) {
+        int size = series.size();
+        if (maxPoints < MIN_POINTS || size <= maxPoints) {
+            return series;
+        }
+        long[] timestamps = new long[maxPoints];
+        double[] values = new double[maxPoints];
+        double bucketSize = (double) (size - 2) / (maxPoints - 2);
+        long origin = series.timestamp(0);
+
+        timestamps[0] = series.timestamp(0);
+        values[0] = series.value(0);
+        int kept = 0;
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            int nextStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            int counted = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                if (!Double.isNaN(series.value(i))) {
+                    averageX += series.timestamp(i) - origin;
+                    averageY += series.value(i);
+                    counted++;
+                }
+            }
+            if (counted > 0) {
+                averageX /= counted;
+                averageY /= counted;
+            }
+
+            int from = (int) (bucket * bucketSize) + 1;
+            int to = (int) ((bucket + 1) * bucketSize) + 1;
+            double keptX = series.timestamp(kept) - origin;
+            double keptY = series.value(kept);
+            double largestArea = -1;
+            int selected = from;
+            for (int i = from; i < to; i++) {
+                double area = Math.abs(
+                    (keptX - averageX) * (series.value(i) - keptY)
+                        - (keptX - (series.timestamp(i) - origin)) * (averageY - keptY)
+                );
+                if (area > largestArea) {
+                    largestArea = area;
+                    selected = i;
+                }
+            }
+            timestamps[bucket + 1] = series.timestamp(selected);
+            values[bucket + 1] = series.value(selected);
+            kept = selected;
+        }
+        timestamps[maxPoints - 1] = series.timestamp(size - 1);
+        values[maxPoints - 1] = series.value(size - 1);
+        return new ChartSeries(timestamps, values);
+    }
+}
@@ -0,0 +1,458 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import com.johnbeo.johnbeo.cryptodata.dto.ChartSeries;
+import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * On-disk chart history so a restart does not send every detail page back to CoinGecko for the full range.
+ * Each (currency, coin, days) series is an append-only log of fixed-size segment files, memory-mapped and read
+ * with absolute gets from the mapping; a read copies only the requested window into the returned chart. A segment
+ * starts with a record count that is only advanced after the new records have been forced to disk, and is then
+ * forced itself, so a crash mid-append only loses the unacknowledged tail. The live (last) point of a chart is never
+ * persisted; it is refetched as part of the missing tail. Reads never create anything on disk: a series directory
+ * only appears once an upstream load for one of the configured ranges succeeds, and at most
+ * {@code max-open-series} logs stay mapped at a time; evicted logs are unmapped right away.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartHistoryStore {
+
+    private static final Pattern SAFE_SEGMENT = Pattern.compile("[a-z0-9][a-z0-9._-]*");
+    private static final int MAGIC = 0x43484831;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_BYTES = 32;
+    private static final Consumer<ByteBuffer> UNMAPPER = unmapper();
+
+    private final ReentrantLock logsLock = new ReentrantLock();
+    private final Map<String, SeriesLog> logs = new LinkedHashMap<>(16, 0.75f, true);
+    private final CoinGeckoProperties properties;
+    private final Clock clock;
+
+    public MarketChartDto read(String coinId, String vsCurrency, int days) {
+        SeriesLog series = open(coinId, vsCurrency, days, false);
+        if (series == null) {
+            return MarketChartDto.empty();
+        }
+        long windowStart = clock.millis() - days * 86_400_000L;
+        return series.read(windowStart);
+    }
+
+    public void append(String coinId, String vsCurrency, int days, MarketChartDto chart) {
+        SeriesLog series = open(coinId, vsCurrency, days, true);
+        if (series == null || chart.priceSeries().size() < 2) {
+            return;
+        }
+        long retainFrom = clock.millis() - properties.getHistory().getRetention().toMillis();
+        try {
+            series.append(chart, retainFrom);
+        } catch (IOException | UncheckedIOException ex) {
+            log.warn("Failed to persist chart history [{}:{}:{}]", coinId, days, vsCurrency, ex);
+        }
+    }
+
+    @PreDestroy
+    public void flush() {
+        List<SeriesLog> open;
+        logsLock.lock();
+        try {
+            open = List.copyOf(logs.values());
+        } finally {
+            logsLock.unlock();
+        }
+        open.forEach(SeriesLog::force);
+    }
+
+    private SeriesLog open(String coinId, String vsCurrency, int days, boolean create) {
+        CoinGeckoProperties.History history = properties.getHistory();
+        if (!history.isEnabled() || coinId == null || vsCurrency == null || !history.getDays().contains(days)) {
+            return null;
+        }
+        String coin = coinId.toLowerCase(Locale.ROOT);
+        String currency = vsCurrency.toLowerCase(Locale.ROOT);
+        if (!SAFE_SEGMENT.matcher(coin).matches() || !SAFE_SEGMENT.matcher(currency).matches()) {
+            return null;
+        }
+        String key = currency + '/' + coin + '/' + days + 'd';
+        Path directory = Path.of(history.getDirectory(), currency, coin, days + "d");
+        List<SeriesLog> evicted = new ArrayList<>();
+        logsLock.lock();
+        try {
+            SeriesLog series = logs.get(key);
+            if (series != null) {
+                return series;
+            }
+            if (!create && !Files.isDirectory(directory)) {
+                return null;
+            }
+            series = SeriesLog.load(directory, history.getSegmentRecords(), create);
+            logs.put(key, series);
+            Iterator<SeriesLog> eldest = logs.values().iterator();
+            while (logs.size() > Math.max(1, history.getMaxOpenSeries())) {
+                evicted.add(eldest.next());
+                eldest.remove();
+            }
+            return series;
+        } catch (IOException | UncheckedIOException ex) {
+            log.warn("Chart history unavailable for [{}]", key, ex);
+            return null;
+        } finally {
+            logsLock.unlock();
+            evicted.forEach(SeriesLog::close);
+        }
+    }
+
+    private static Consumer<ByteBuffer> unmapper() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            MethodHandle invokeCleaner = MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(field.get(null));
+            return buffer -> {
+                try {
+                    invokeCleaner.invokeExact(buffer);
+                } catch (Throwable ex) {
+                    log.warn("Failed to unmap chart history segment", ex);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            log.warn("Chart history segments cannot be unmapped eagerly, closed mappings are released by GC", ex);
+            return buffer -> { };
+        }
+    }
+
+    private static final class SeriesLog {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Path directory;
+        private final int segmentRecords;
+        private final List<Segment> segments;
+        private int nextIndex;
+        private boolean closed;
+
+        private SeriesLog(Path directory, int segmentRecords, List<Segment> segments, int nextIndex) {
+            this.directory = directory;
+            this.segmentRecords = segmentRecords;
+            this.segments = segments;
+            this.nextIndex = nextIndex;
+        }
+
+        static SeriesLog load(Path directory, int segmentRecords, boolean create) throws IOException {
+            if (create) {
+                Files.createDirectories(directory);
+            }
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(directory)) {
+                files = listing.filter(path -> path.getFileName().toString().endsWith(".seg")).sorted().toList();
+            }
+            List<Segment> segments = new ArrayList<>();
+            int nextIndex = 0;
+            for (Path file : files) {
+                Segment segment = Segment.map(file, segmentRecords, false);
+                if (segment != null) {
+                    segments.add(segment);
+                }
+                nextIndex = Math.max(nextIndex, indexOf(file) + 1);
+            }
+            return new SeriesLog(directory, segmentRecords, segments, nextIndex);
+        }
+
+        MarketChartDto read(long windowStart) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return MarketChartDto.empty();
+                }
+                int total = 0;
+                for (Segment segment : segments) {
+                    int count = segment.count();
+                    if (count > 0 && segment.timestamp(count - 1) >= windowStart) {
+                        total += count - segment.firstAtOrAfter(windowStart);
+                    }
+                }
+                long[] timestamps = new long[total];
+                double[] prices = new double[total];
+                double[] marketCaps = new double[total];
+                double[] totalVolumes = new double[total];
+                int size = 0;
+                for (Segment segment : segments) {
+                    int count = segment.count();
+                    if (count == 0 || segment.timestamp(count - 1) < windowStart) {
+                        continue;
+                    }
+                    for (int i = segment.firstAtOrAfter(windowStart); i < count; i++) {
+                        timestamps[size] = segment.timestamp(i);
+                        prices[size] = segment.value(i, 0);
+                        marketCaps[size] = segment.value(i, 1);
+                        totalVolumes[size] = segment.value(i, 2);
+                        size++;
+                    }
+                }
+                return new MarketChartDto(
+                    new ChartSeries(timestamps, prices),
+                    present(timestamps, marketCaps, size),
+                    present(timestamps, totalVolumes, size)
+                );
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void append(MarketChartDto chart, long retainFrom) throws IOException {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                ChartSeries prices = chart.priceSeries();
+                long lastStored = lastTimestamp();
+                Segment tail = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+                int pending = tail != null ? tail.count() : 0;
+                int cap = 0;
+                int volume = 0;
+                try {
+                    for (int i = 0; i < prices.size() - 1; i++) {
+                        long timestamp = prices.timestamp(i);
+                        cap = seek(chart.marketCapSeries(), cap, timestamp);
+                        volume = seek(chart.totalVolumeSeries(), volume, timestamp);
+                        if (timestamp <= lastStored) {
+                            continue;
+                        }
+                        if (tail == null || pending >= tail.capacity()) {
+                            if (tail != null) {
+                                tail.commit(pending);
+                            }
+                            tail = roll(retainFrom);
+                            pending = 0;
+                        }
+                        tail.put(
+                            pending++,
+                            timestamp,
+                            prices.value(i),
+                            valueAt(chart.marketCapSeries(), cap, timestamp),
+                            valueAt(chart.totalVolumeSeries(), volume, timestamp)
+                        );
+                        lastStored = timestamp;
+                    }
+                } finally {
+                    if (tail != null) {
+                        tail.commit(pending);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void force() {
+            lock.lock();
+            try {
+                if (!closed) {
+                    segments.forEach(Segment::force);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                segments.forEach(Segment::force);
+                segments.forEach(Segment::unmap);
+                segments.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Segment roll(long retainFrom) throws IOException {
+            while (segments.size() > 1 && segments.get(0).lastTimestamp() < retainFrom) {
+                Segment expired = segments.remove(0);
+                expired.unmap();
+                Files.deleteIfExists(expired.file());
+            }
+            Path file = directory.resolve(String.format("%08d.seg", nextIndex++));
+            Segment segment = Segment.map(file, segmentRecords, true);
+            segments.add(segment);
+            return segment;
+        }
+
+        private long lastTimestamp() {
+            for (int i = segments.size() - 1; i >= 0; i--) {
+                Segment segment = segments.get(i);
+                if (segment.count() > 0) {
+                    return segment.lastTimestamp();
+                }
+            }
+            return Long.MIN_VALUE;
+        }
+
+        private static int seek(ChartSeries series, int from, long timestamp) {
+            int index = from;
+            while (index < series.size() && series.timestamp(index) < timestamp) {
+                index++;
+            }
+            return index;
+        }
+
+        private static double valueAt(ChartSeries series, int index, long timestamp) {
+            return index < series.size() && series.timestamp(index) == timestamp ? series.value(index) : Double.NaN;
+        }
+
+        private static ChartSeries present(long[] timestamps, double[] values, int size) {
+            int missing = 0;
+            for (int i = 0; i < size; i++) {
+                if (Double.isNaN(values[i])) {
+                    missing++;
+                }
+            }
+            if (missing == 0) {
+                return new ChartSeries(timestamps, values);
+            }
+            long[] keptTimestamps = new long[size];
+            double[] keptValues = new double[size];
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!Double.isNaN(values[i])) {
+                    keptTimestamps[kept] = timestamps[i];
+                    keptValues[kept] = values[i];
+                    kept++;
+                }
+            }
+            return new ChartSeries(Arrays.copyOf(keptTimestamps, kept), Arrays.copyOf(keptValues, kept));
+        }
+
+        private static int indexOf(Path file) {
+            String name = file.getFileName().toString();
+            try {
+                return Integer.parseInt(name.substring(0, name.length() - ".seg".length()));
+            } catch (NumberFormatException ex) {
+                return -1;
+            }
+        }
+    }
+
+    private record Segment(Path file, MappedByteBuffer buffer, int capacity) {
+
+        static Segment map(Path file, int segmentRecords, boolean create) throws IOException {
+            long size = HEADER_BYTES + (long) segmentRecords * RECORD_BYTES;
+            if (!create && Files.size(file) != size) {
+                log.warn("Skipping chart history segment with unexpected size [{}]", file);
+                return null;
+            }
+            try (FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            )) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                if (create) {
+                    buffer.putInt(0, MAGIC);
+                    buffer.putInt(4, 0);
+                } else if (buffer.getInt(0) != MAGIC) {
+                    log.warn("Skipping chart history segment with unknown header [{}]", file);
+                    return null;
+                }
+                return new Segment(file, buffer, segmentRecords);
+            }
+        }
+
+        int count() {
+            return Math.min(buffer.getInt(4), capacity);
+        }
+
+        long timestamp(int index) {
+            return buffer.getLong(offset(index));
+        }
+
+        long lastTimestamp() {
+            int count = count();
+            return count == 0 ? Long.MIN_VALUE : timestamp(count - 1);
+        }
+
+        double value(int index, int column) {
+            return buffer.getDouble(offset(index) + Long.BYTES + column * Double.BYTES);
+        }
+
+        int firstAtOrAfter(long timestamp) {
+            int low = 0;
+            int high = count();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (timestamp(mid) < timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        void put(int index, long timestamp, double price, double marketCap, double totalVolume) {
+            int offset = offset(index);
+            buffer.putLong(offset, timestamp);
+            buffer.putDouble(offset + 8, price);
+            buffer.putDouble(offset + 16, marketCap);
+            buffer.putDouble(offset + 24, totalVolume);
+        }
+
+        void commit(int count) {
+            int committed = count();
+            if (count <= committed) {
+                return;
+            }
+            buffer.force(offset(committed), (count - committed) * RECORD_BYTES);
+            buffer.putInt(4, count);
+            buffer.force(4, Integer.BYTES);
+        }
+
+        void force() {
+            buffer.force();
+        }
+
+        void unmap() {
+            UNMAPPER.accept(buffer);
+        }
+
+        private static int offset(int index) {
+            return HEADER_BYTES + index * RECORD_BYTES;
+        }
+    }
+}
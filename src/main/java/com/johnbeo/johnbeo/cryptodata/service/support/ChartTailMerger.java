@@ -0,0 +1,79 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.johnbeo.johnbeo.cryptodata.dto.ChartSeries;
+import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Appends a freshly fetched tail to a cached chart. The last point of a CoinGecko series is the live quote
+ * rather than a closed bucket, so it is always replaced by the tail. Points that fall before the chart window
+ * are dropped, and when a bucket width is given every closed bucket is collapsed to its first point so the
+ * fine-grained tail does not change the granularity of the cached history.
+ */
+public final class ChartTailMerger {
+
+    public static final Duration HOURLY = Duration.ofHours(1);
+    public static final Duration DAILY = Duration.ofDays(1);
+
+    private ChartTailMerger() {
+    }
+
+    public static Duration bucketFor(int days) {
+        if (days >= 90) {
+            return DAILY;
+        }
+        return days > 1 ? HOURLY : Duration.ZERO;
+    }
+
+    public static long tailStart(MarketChartDto chart) {
+        ChartSeries prices = chart.priceSeries();
+        return prices.isEmpty() ? -1 : prices.timestamp(prices.size() - 1);
+    }
+
+    public static MarketChartDto merge(MarketChartDto cached, MarketChartDto tail, long windowStart, Duration bucket) {
+        long bucketMillis = bucket.toMillis();
+        return new MarketChartDto(
+            merge(cached.priceSeries(), tail.priceSeries(), windowStart, bucketMillis),
+            merge(cached.marketCapSeries(), tail.marketCapSeries(), windowStart, bucketMillis),
+            merge(cached.totalVolumeSeries(), tail.totalVolumeSeries(), windowStart, bucketMillis)
+        );
+    }
+
+    static ChartSeries merge(ChartSeries cached, ChartSeries tail, long windowStart, long bucketMillis) {
+        if (tail.isEmpty()) {
+            return cached;
+        }
+        int stable = Math.max(cached.size() - 1, 0);
+        while (stable > 0 && cached.timestamp(stable - 1) >= tail.timestamp(0)) {
+            stable--;
+        }
+        int capacity = stable + tail.size();
+        long[] timestamps = new long[capacity];
+        double[] values = new double[capacity];
+        int size = 0;
+        long lastBucket = Long.MIN_VALUE;
+        long lastTimestamp = Long.MIN_VALUE;
+        for (int i = 0; i < capacity; i++) {
+            boolean fromCache = i < stable;
+            long timestamp = fromCache ? cached.timestamp(i) : tail.timestamp(i - stable);
+            double value = fromCache ? cached.value(i) : tail.value(i - stable);
+            boolean live = i == capacity - 1;
+            if (timestamp < windowStart && !live || timestamp <= lastTimestamp) {
+                continue;
+            }
+            if (bucketMillis > 0 && !live) {
+                long bucket = Math.floorDiv(timestamp, bucketMillis);
+                if (bucket == lastBucket) {
+                    continue;
+                }
+                lastBucket = bucket;
+            }
+            timestamps[size] = timestamp;
+            values[size] = value;
+            lastTimestamp = timestamp;
+            size++;
+        }
+        return new ChartSeries(Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size));
+    }
+}
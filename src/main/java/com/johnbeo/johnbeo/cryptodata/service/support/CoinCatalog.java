@@ -0,0 +1,170 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.johnbeo.johnbeo.cryptodata.dto.CoinSearchDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable catalog of every listed coin. Coins are held sorted by id for membership checks, and the normalized
+ * id, symbol and name of each coin (plus every later word of a multi-word name) form one sorted key array, so a
+ * prefix lookup is a binary search followed by a short forward scan.
+ */
+public final class CoinCatalog {
+
+    private static final CoinCatalog EMPTY = new Builder(0).build();
+
+    private final String[] ids;
+    private final String[] symbols;
+    private final String[] names;
+    private final String[] keys;
+    private final int[] keyCoins;
+
+    private CoinCatalog(String[] ids, String[] symbols, String[] names, String[] keys, int[] keyCoins) {
+        this.ids = ids;
+        this.symbols = symbols;
+        this.names = names;
+        this.keys = keys;
+        this.keyCoins = keyCoins;
+    }
+
+    public static CoinCatalog empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean contains(String coinId) {
+        return coinId != null && Arrays.binarySearch(ids, normalize(coinId)) >= 0;
+    }
+
+    /**
+     * Coins with a key starting with {@code query}, exact matches first, then by {@code rank} (lower is better,
+     * e.g. market cap position) and shorter keys. Every matching coin is considered; only the best {@code limit}
+     * are kept, in a bounded heap, so a broad prefix costs no sort of the whole range.
+     */
+    public List<CoinSearchDto> search(String query, int limit, ToIntFunction<String> rank) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<Integer, Integer> shortestKey = new HashMap<>();
+        for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            shortestKey.merge(keyCoins[i], keys[i].length(), Math::min);
+        }
+        Comparator<Candidate> best = Comparator.comparing(Candidate::exact).reversed()
+            .thenComparingInt(Candidate::rank)
+            .thenComparingInt(Candidate::keyLength)
+            .thenComparing(candidate -> ids[candidate.coin()]);
+        PriorityQueue<Candidate> top = new PriorityQueue<>(Math.min(limit, shortestKey.size()) + 1, best.reversed());
+        shortestKey.forEach((coin, keyLength) -> {
+            top.offer(new Candidate(coin, keyLength == prefix.length(), rank.applyAsInt(ids[coin]), keyLength));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(best);
+        return ranked.stream()
+            .map(candidate -> new CoinSearchDto(ids[candidate.coin()], symbols[candidate.coin()], names[candidate.coin()]))
+            .toList();
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Candidate(int coin, boolean exact, int rank, int keyLength) {
+    }
+
+    public static final class Builder {
+
+        private final List<String[]> coins;
+
+        public Builder(int expectedSize) {
+            this.coins = new ArrayList<>(expectedSize);
+        }
+
+        public Builder add(String id, String symbol, String name) {
+            String normalizedId = normalize(id);
+            if (!normalizedId.isEmpty()) {
+                coins.add(new String[] {normalizedId, symbol != null ? symbol : "", name != null ? name : normalizedId});
+            }
+            return this;
+        }
+
+        public CoinCatalog build() {
+            coins.sort(Comparator.comparing(coin -> coin[0]));
+            List<String[]> unique = new ArrayList<>(coins.size());
+            for (String[] coin : coins) {
+                if (unique.isEmpty() || !unique.get(unique.size() - 1)[0].equals(coin[0])) {
+                    unique.add(coin);
+                }
+            }
+            int size = unique.size();
+            String[] ids = new String[size];
+            String[] symbols = new String[size];
+            String[] names = new String[size];
+            List<String> keyList = new ArrayList<>(size * 4);
+            List<Integer> coinList = new ArrayList<>(size * 4);
+            for (int i = 0; i < size; i++) {
+                String[] coin = unique.get(i);
+                ids[i] = coin[0];
+                symbols[i] = coin[1];
+                names[i] = coin[2];
+                addKeys(keyList, coinList, i, coin);
+            }
+            Integer[] order = new Integer[keyList.size()];
+            Arrays.setAll(order, index -> index);
+            Arrays.sort(order, Comparator.comparing(keyList::get));
+            String[] keys = new String[order.length];
+            int[] keyCoins = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                keys[i] = keyList.get(order[i]);
+                keyCoins[i] = coinList.get(order[i]);
+            }
+            return new CoinCatalog(ids, symbols, names, keys, keyCoins);
+        }
+
+        private void addKeys(List<String> keyList, List<Integer> coinList, int coin, String[] fields) {
+            List<String> coinKeys = new ArrayList<>(4);
+            coinKeys.add(fields[0]);
+            coinKeys.add(normalize(fields[1]));
+            String name = normalize(fields[2]);
+            coinKeys.add(name);
+            String[] words = name.split("\\s+");
+            for (int i = 1; i < words.length; i++) {
+                coinKeys.add(String.join(" ", Arrays.copyOfRange(words, i, words.length)));
+            }
+            coinKeys.stream()
+                .filter(key -> !key.isEmpty())
+                .distinct()
+                .forEach(key -> {
+                    keyList.add(key);
+                    coinList.add(coin);
+                });
+        }
+    }
+}
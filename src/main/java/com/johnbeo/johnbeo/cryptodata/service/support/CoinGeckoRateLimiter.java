@@ -0,0 +1,174 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.johnbeo.johnbeo.common.exception.ExternalApiException;
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Client-side token bucket shared by every CoinGecko call. Background work only takes a token when
+ * that leaves the reserve untouched; validation waits behind queued interactive callers. Reactive interactive
+ * callers reserve a future token instead of parking a thread and are delayed until it becomes available; reactive
+ * validation never books ahead and re-checks after a delay, so it yields to interactive work on both paths.
+ */
+@Component
+public class CoinGeckoRateLimiter {
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private final CoinGeckoProperties.RateLimit config;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+    private int waitingInteractive;
+
+    public CoinGeckoRateLimiter(CoinGeckoProperties properties) {
+        this.config = properties.getRateLimit();
+        this.tokensPerNano = config.getRequestsPerMinute() / (double) TimeUnit.MINUTES.toNanos(1);
+        this.tokens = config.getBurst();
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public void acquire(RequestPriority priority) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        boolean granted = switch (priority) {
+            case BACKGROUND -> tryAcquireAboveReserve();
+            case VALIDATION -> acquireWithin(priority, config.getValidationMaxWait());
+            case INTERACTIVE -> acquireWithin(priority, config.getInteractiveMaxWait());
+        };
+        if (!granted) {
+            throw budgetExhausted(priority);
+        }
+    }
+
+    public Mono<Void> permit(RequestPriority priority) {
+        if (!config.isEnabled()) {
+            return Mono.empty();
+        }
+        return switch (priority) {
+            case BACKGROUND -> Mono.defer(() -> tryAcquireAboveReserve() ? Mono.empty() : Mono.error(budgetExhausted(priority)));
+            case VALIDATION -> Mono.defer(() -> pollWithin(priority, System.nanoTime() + config.getValidationMaxWait().toNanos()));
+            case INTERACTIVE -> Mono.defer(() -> {
+                long waitNanos = reserve(config.getInteractiveMaxWait());
+                if (waitNanos < 0) {
+                    return Mono.error(budgetExhausted(priority));
+                }
+                return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+            });
+        };
+    }
+
+    private long reserve(Duration maxWait) {
+        lock.lock();
+        try {
+            refill();
+            long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+            if (waitNanos > maxWait.toNanos()) {
+                return -1;
+            }
+            tokens -= 1;
+            return waitNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Mono<Void> pollWithin(RequestPriority priority, long deadline) {
+        long waitNanos = tryAcquireOrWait(deadline);
+        if (waitNanos == 0) {
+            return Mono.empty();
+        }
+        if (waitNanos < 0) {
+            return Mono.error(budgetExhausted(priority));
+        }
+        return Mono.delay(Duration.ofNanos(waitNanos)).then(Mono.defer(() -> pollWithin(priority, deadline)));
+    }
+
+    private long tryAcquireOrWait(long deadline) {
+        lock.lock();
+        try {
+            refill();
+            if (tokens >= 1 && waitingInteractive == 0) {
+                tokens -= 1;
+                return 0;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return -1;
+            }
+            long untilNextToken = tokens >= 1 ? POLL_NANOS : (long) Math.ceil((1 - tokens) / tokensPerNano);
+            return Math.max(1, Math.min(remaining, untilNextToken));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ExternalApiException budgetExhausted(RequestPriority priority) {
+        return new ExternalApiException("CoinGecko request budget exhausted (" + priority.name().toLowerCase(Locale.ROOT) + " lane). Please try again in a moment.");
+    }
+
+    private boolean tryAcquireAboveReserve() {
+        lock.lock();
+        try {
+            refill();
+            if (waitingInteractive > 0 || tokens - 1 < config.getBackgroundReserve()) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean acquireWithin(RequestPriority priority, Duration maxWait) {
+        boolean interactive = priority == RequestPriority.INTERACTIVE;
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        lock.lock();
+        try {
+            if (interactive) {
+                waitingInteractive++;
+            }
+            while (true) {
+                refill();
+                if (tokens >= 1 && (interactive || waitingInteractive == 0)) {
+                    tokens -= 1;
+                    return true;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                long untilNextToken = tokens >= 1 ? remaining : (long) Math.ceil((1 - tokens) / tokensPerNano);
+                released.awaitNanos(Math.max(1, Math.min(remaining, untilNextToken)));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            if (interactive) {
+                waitingInteractive--;
+                released.signalAll();
+            }
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(config.getBurst(), tokens + elapsed * tokensPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serialized response bodies keyed by endpoint and content version. The JSON bytes and their gzip variant are built
+ * once per version, so repeated hits on an unchanged page skip Jackson and the compressor entirely.
+ */
+@Component
+@RequiredArgsConstructor
+public class EncodedResponseCache {
+
+    public static final String CACHE_NAME = "coins.encoded";
+    private static final int MIN_COMPRESSIBLE_BYTES = 1024;
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    public EncodedBody encode(String endpointKey, String version, Object value) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return build(value);
+        }
+        try {
+            return cache.get(endpointKey + '@' + version, () -> build(value));
+        } catch (Cache.ValueRetrievalException ex) {
+            throw ex.getCause() instanceof RuntimeException runtime ? runtime : ex;
+        }
+    }
+
+    private EncodedBody build(Object value) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize response body", ex);
+        }
+        return new EncodedBody(json, json.length >= MIN_COMPRESSIBLE_BYTES ? gzip(json) : null);
+    }
+
+    static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * {@code gzip} is null for bodies too small to be worth compressing.
+     */
+    public record EncodedBody(byte[] json, byte[] gzip) {
+
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+    }
+}
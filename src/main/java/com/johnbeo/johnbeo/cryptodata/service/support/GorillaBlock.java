@@ -0,0 +1,231 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import java.util.Arrays;
+
+/**
+ * Gorilla-encoded block of ticks: delta-of-delta timestamps and XOR-compressed doubles for the price, market cap
+ * and volume columns, written into one bit stream. Regular 30s polling costs a single bit per timestamp and a
+ * few bits per unchanged column. Blocks are append-only and not thread-safe; callers guard them.
+ */
+public final class GorillaBlock {
+
+    private static final int COLUMNS = 3;
+
+    private long[] words;
+    private int bits;
+    private int count;
+    private long firstTimestamp;
+    private long lastTimestamp;
+    private long lastDelta;
+    private final long[] lastValues = new long[COLUMNS];
+    private final int[] leadingZeros = new int[COLUMNS];
+    private final int[] trailingZeros = new int[COLUMNS];
+
+    public GorillaBlock(int expectedTicks) {
+        this.words = new long[Math.max(4, expectedTicks)];
+    }
+
+    public void append(long timestamp, double price, double marketCap, double totalVolume) {
+        if (count == 0) {
+            write(timestamp, 64);
+            firstTimestamp = timestamp;
+            writeFirst(0, price);
+            writeFirst(1, marketCap);
+            writeFirst(2, totalVolume);
+        } else {
+            long delta = timestamp - lastTimestamp;
+            writeDeltaOfDelta(delta - lastDelta);
+            lastDelta = delta;
+            writeXor(0, price);
+            writeXor(1, marketCap);
+            writeXor(2, totalVolume);
+        }
+        lastTimestamp = timestamp;
+        count++;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long firstTimestamp() {
+        return firstTimestamp;
+    }
+
+    public long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    public int sizeInBytes() {
+        return (bits + 7) >>> 3;
+    }
+
+    public GorillaBlock seal() {
+        words = Arrays.copyOf(words, (bits + 63) >>> 6);
+        return this;
+    }
+
+    public void forEach(long from, long to, TickVisitor visitor) {
+        if (count == 0 || lastTimestamp < from || firstTimestamp > to) {
+            return;
+        }
+        Reader reader = new Reader();
+        for (int i = 0; i < count; i++) {
+            reader.next(i == 0);
+            if (reader.timestamp > to) {
+                return;
+            }
+            if (reader.timestamp >= from) {
+                visitor.accept(
+                    reader.timestamp,
+                    Double.longBitsToDouble(reader.values[0]),
+                    Double.longBitsToDouble(reader.values[1]),
+                    Double.longBitsToDouble(reader.values[2])
+                );
+            }
+        }
+    }
+
+    private void writeFirst(int column, double value) {
+        long valueBits = Double.doubleToRawLongBits(value);
+        write(valueBits, 64);
+        lastValues[column] = valueBits;
+        leadingZeros[column] = -1;
+    }
+
+    private void writeDeltaOfDelta(long deltaOfDelta) {
+        if (deltaOfDelta == 0) {
+            write(0b0, 1);
+        } else if (deltaOfDelta >= -63 && deltaOfDelta <= 64) {
+            write(0b10, 2);
+            write(deltaOfDelta, 7);
+        } else if (deltaOfDelta >= -255 && deltaOfDelta <= 256) {
+            write(0b110, 3);
+            write(deltaOfDelta, 9);
+        } else if (deltaOfDelta >= -2047 && deltaOfDelta <= 2048) {
+            write(0b1110, 4);
+            write(deltaOfDelta, 12);
+        } else {
+            write(0b1111, 4);
+            write(deltaOfDelta, 64);
+        }
+    }
+
+    private void writeXor(int column, double value) {
+        long valueBits = Double.doubleToRawLongBits(value);
+        long xor = valueBits ^ lastValues[column];
+        lastValues[column] = valueBits;
+        if (xor == 0) {
+            write(0b0, 1);
+            return;
+        }
+        int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        int trailing = Long.numberOfTrailingZeros(xor);
+        if (leadingZeros[column] >= 0 && leading >= leadingZeros[column] && trailing >= trailingZeros[column]) {
+            write(0b10, 2);
+            write(xor >>> trailingZeros[column], 64 - leadingZeros[column] - trailingZeros[column]);
+            return;
+        }
+        int meaningful = 64 - leading - trailing;
+        write(0b11, 2);
+        write(leading, 5);
+        write(meaningful - 1, 6);
+        write(xor >>> trailing, meaningful);
+        leadingZeros[column] = leading;
+        trailingZeros[column] = trailing;
+    }
+
+    private void write(long value, int width) {
+        int index = bits >>> 6;
+        if (index + 1 >= words.length) {
+            words = Arrays.copyOf(words, words.length * 2);
+        }
+        int free = 64 - (bits & 63);
+        long masked = width == 64 ? value : value & ((1L << width) - 1);
+        if (width <= free) {
+            words[index] |= masked << (free - width);
+        } else {
+            int spill = width - free;
+            words[index] |= masked >>> spill;
+            words[index + 1] |= masked << (64 - spill);
+        }
+        bits += width;
+    }
+
+    private final class Reader {
+
+        private int position;
+        private long timestamp;
+        private long delta;
+        private final long[] values = new long[COLUMNS];
+        private final int[] leading = new int[COLUMNS];
+        private final int[] trailing = new int[COLUMNS];
+
+        void next(boolean first) {
+            if (first) {
+                timestamp = read(64);
+                for (int column = 0; column < COLUMNS; column++) {
+                    values[column] = read(64);
+                }
+                return;
+            }
+            delta += readDeltaOfDelta();
+            timestamp += delta;
+            for (int column = 0; column < COLUMNS; column++) {
+                readXor(column);
+            }
+        }
+
+        private long readDeltaOfDelta() {
+            if (read(1) == 0) {
+                return 0;
+            }
+            if (read(1) == 0) {
+                return signed(read(7), 7);
+            }
+            if (read(1) == 0) {
+                return signed(read(9), 9);
+            }
+            if (read(1) == 0) {
+                return signed(read(12), 12);
+            }
+            return read(64);
+        }
+
+        private void readXor(int column) {
+            if (read(1) == 0) {
+                return;
+            }
+            if (read(1) == 1) {
+                leading[column] = (int) read(5);
+                int meaningful = (int) read(6) + 1;
+                trailing[column] = 64 - leading[column] - meaningful;
+            }
+            int meaningful = 64 - leading[column] - trailing[column];
+            values[column] ^= read(meaningful) << trailing[column];
+        }
+
+        private long read(int width) {
+            int index = position >>> 6;
+            int free = 64 - (position & 63);
+            long result;
+            if (width <= free) {
+                result = words[index] >>> (free - width);
+            } else {
+                int spill = width - free;
+                result = (words[index] << spill) | (words[index + 1] >>> (64 - spill));
+            }
+            position += width;
+            return width == 64 ? result : result & ((1L << width) - 1);
+        }
+
+        private long signed(long value, int width) {
+            return value > (1L << (width - 1)) ? value - (1L << width) : value;
+        }
+    }
+
+    @FunctionalInterface
+    public interface TickVisitor {
+        void accept(long timestamp, double price, double marketCap, double totalVolume);
+    }
+}
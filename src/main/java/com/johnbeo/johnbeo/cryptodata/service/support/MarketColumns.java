@@ -0,0 +1,351 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.johnbeo.johnbeo.common.cache.PayloadSizeEstimator;
+import com.johnbeo.johnbeo.cryptodata.dto.CoinMarketDto;
+import com.johnbeo.johnbeo.cryptodata.dto.PlainNumbers;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Column-oriented copy of a /coins/markets payload. Numbers are kept as primitive doubles (NaN when absent).
+ * Row lists are {@link Rows} views: JSON is written straight from the columns, and a {@link CoinMarketDto} with
+ * {@link BigDecimal}s is only built when a caller reads an element, e.g. for template rendering.
+ */
+public final class MarketColumns {
+
+    private static final MarketColumns EMPTY = new Builder(0).build();
+
+    private final String[] ids;
+    private final String[] symbols;
+    private final String[] names;
+    private final String[] images;
+    private final double[] currentPrices;
+    private final double[] marketCaps;
+    private final double[] totalVolumes;
+    private final double[] priceChanges24h;
+    private final Map<String, Integer> indexById;
+
+    private MarketColumns(
+        String[] ids,
+        String[] symbols,
+        String[] names,
+        String[] images,
+        double[] currentPrices,
+        double[] marketCaps,
+        double[] totalVolumes,
+        double[] priceChanges24h
+    ) {
+        this.ids = ids;
+        this.symbols = symbols;
+        this.names = names;
+        this.images = images;
+        this.currentPrices = currentPrices;
+        this.marketCaps = marketCaps;
+        this.totalVolumes = totalVolumes;
+        this.priceChanges24h = priceChanges24h;
+        Map<String, Integer> index = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != null) {
+                index.putIfAbsent(ids[i].toLowerCase(Locale.ROOT), i);
+            }
+        }
+        this.indexById = index;
+    }
+
+    public static MarketColumns empty() {
+        return EMPTY;
+    }
+
+    public static MarketColumns from(List<CoinMarketDto> coins) {
+        Builder builder = new Builder(coins.size());
+        for (CoinMarketDto coin : coins) {
+            if (coin == null) {
+                continue;
+            }
+            builder.add(
+                coin.id(),
+                coin.symbol(),
+                coin.name(),
+                coin.image(),
+                toDouble(coin.currentPrice()),
+                toDouble(coin.marketCap()),
+                toDouble(coin.totalVolume()),
+                toDouble(coin.priceChangePercentage24h())
+            );
+        }
+        return builder.build();
+    }
+
+    public static MarketColumns concat(List<MarketColumns> parts, int limit) {
+        int total = Math.min(limit, parts.stream().mapToInt(MarketColumns::size).sum());
+        Builder builder = new Builder(total);
+        for (MarketColumns part : parts) {
+            for (int i = 0; i < part.size() && builder.size < total; i++) {
+                builder.add(
+                    part.ids[i],
+                    part.symbols[i],
+                    part.names[i],
+                    part.images[i],
+                    part.currentPrices[i],
+                    part.marketCaps[i],
+                    part.totalVolumes[i],
+                    part.priceChanges24h[i]
+                );
+            }
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int indexOf(String coinId) {
+        Integer index = coinId == null ? null : indexById.get(coinId.toLowerCase(Locale.ROOT));
+        return index != null ? index : -1;
+    }
+
+    public String id(int index) {
+        return ids[index];
+    }
+
+    public double currentPrice(int index) {
+        return currentPrices[index];
+    }
+
+    public double marketCap(int index) {
+        return marketCaps[index];
+    }
+
+    public double totalVolume(int index) {
+        return totalVolumes[index];
+    }
+
+    public double priceChangePercentage24h(int index) {
+        return priceChanges24h[index];
+    }
+
+    public boolean sameRow(int index, MarketColumns other, int otherIndex) {
+        return Objects.equals(ids[index], other.ids[otherIndex])
+            && Objects.equals(symbols[index], other.symbols[otherIndex])
+            && Objects.equals(names[index], other.names[otherIndex])
+            && Objects.equals(images[index], other.images[otherIndex])
+            && Double.compare(currentPrices[index], other.currentPrices[otherIndex]) == 0
+            && Double.compare(marketCaps[index], other.marketCaps[otherIndex]) == 0
+            && Double.compare(totalVolumes[index], other.totalVolumes[otherIndex]) == 0
+            && Double.compare(priceChanges24h[index], other.priceChanges24h[otherIndex]) == 0;
+    }
+
+    public CoinMarketDto row(int index) {
+        return new CoinMarketDto(
+            ids[index],
+            symbols[index],
+            names[index],
+            images[index],
+            toDecimal(currentPrices[index]),
+            toDecimal(marketCaps[index]),
+            toDecimal(totalVolumes[index]),
+            toDecimal(priceChanges24h[index])
+        );
+    }
+
+    public List<CoinMarketDto> rows(int from, int to) {
+        int[] indices = new int[Math.max(0, to - from)];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = from + i;
+        }
+        return new Rows(this, indices);
+    }
+
+    public List<CoinMarketDto> rows(int[] indices) {
+        return new Rows(this, indices);
+    }
+
+    public List<CoinMarketDto> toDtos() {
+        return rows(0, size());
+    }
+
+    public static BigDecimal toDecimal(double value) {
+        return PlainNumbers.toDecimal(value);
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Read-only list of selected rows. Elements are materialized on {@link #get}; serialization and size estimation
+     * read the columns directly.
+     */
+    @JsonSerialize(using = RowsWriter.class)
+    public static final class Rows extends AbstractList<CoinMarketDto> implements PayloadSizeEstimator.Sized {
+
+        private final MarketColumns columns;
+        private final int[] indices;
+
+        private Rows(MarketColumns columns, int[] indices) {
+            this.columns = columns;
+            this.indices = indices;
+        }
+
+        @Override
+        public CoinMarketDto get(int index) {
+            return columns.row(indices[index]);
+        }
+
+        @Override
+        public int size() {
+            return indices.length;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Rows rows)) {
+                return super.equals(other);
+            }
+            if (rows.indices.length != indices.length) {
+                return false;
+            }
+            for (int i = 0; i < indices.length; i++) {
+                if (!columns.sameRow(indices[i], rows.columns, rows.indices[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+
+        @Override
+        public long estimatedSize() {
+            long size = 40 + (long) indices.length * Integer.BYTES;
+            for (int index : indices) {
+                size += 4 * Double.BYTES + 4 * 40 + length(columns.ids[index]) + length(columns.symbols[index])
+                    + length(columns.names[index]) + length(columns.images[index]);
+            }
+            return size;
+        }
+
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+    }
+
+    /**
+     * Writes {@link Rows} in the same shape as a list of {@link CoinMarketDto}s, straight from the columns.
+     */
+    public static final class RowsWriter extends StdSerializer<Rows> {
+
+        public RowsWriter() {
+            super(Rows.class);
+        }
+
+        @Override
+        public void serialize(Rows rows, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            MarketColumns columns = rows.columns;
+            generator.writeStartArray(rows, rows.size());
+            for (int index : rows.indices) {
+                generator.writeStartObject();
+                generator.writeStringField("id", columns.ids[index]);
+                generator.writeStringField("symbol", columns.symbols[index]);
+                generator.writeStringField("name", columns.names[index]);
+                generator.writeStringField("image", columns.images[index]);
+                PlainNumbers.writeField(generator, "current_price", columns.currentPrices[index]);
+                PlainNumbers.writeField(generator, "market_cap", columns.marketCaps[index]);
+                PlainNumbers.writeField(generator, "total_volume", columns.totalVolumes[index]);
+                PlainNumbers.writeField(generator, "price_change_percentage_24h", columns.priceChanges24h[index]);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    public static final class Builder {
+
+        private String[] ids;
+        private String[] symbols;
+        private String[] names;
+        private String[] images;
+        private double[] currentPrices;
+        private double[] marketCaps;
+        private double[] totalVolumes;
+        private double[] priceChanges24h;
+        private int size;
+
+        public Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            ids = new String[capacity];
+            symbols = new String[capacity];
+            names = new String[capacity];
+            images = new String[capacity];
+            currentPrices = new double[capacity];
+            marketCaps = new double[capacity];
+            totalVolumes = new double[capacity];
+            priceChanges24h = new double[capacity];
+        }
+
+        public Builder add(
+            String id,
+            String symbol,
+            String name,
+            String image,
+            double currentPrice,
+            double marketCap,
+            double totalVolume,
+            double priceChange24h
+        ) {
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id != null ? id.intern() : null;
+            symbols[size] = symbol != null ? symbol.intern() : null;
+            names[size] = name;
+            images[size] = image;
+            currentPrices[size] = currentPrice;
+            marketCaps[size] = marketCap;
+            totalVolumes[size] = totalVolume;
+            priceChanges24h[size] = priceChange24h;
+            size++;
+            return this;
+        }
+
+        public MarketColumns build() {
+            return new MarketColumns(
+                Arrays.copyOf(ids, size),
+                Arrays.copyOf(symbols, size),
+                Arrays.copyOf(names, size),
+                Arrays.copyOf(images, size),
+                Arrays.copyOf(currentPrices, size),
+                Arrays.copyOf(marketCaps, size),
+                Arrays.copyOf(totalVolumes, size),
+                Arrays.copyOf(priceChanges24h, size)
+            );
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            symbols = Arrays.copyOf(symbols, capacity);
+            names = Arrays.copyOf(names, capacity);
+            images = Arrays.copyOf(images, capacity);
+            currentPrices = Arrays.copyOf(currentPrices, capacity);
+            marketCaps = Arrays.copyOf(marketCaps, capacity);
+            totalVolumes = Arrays.copyOf(totalVolumes, capacity);
+            priceChanges24h = Arrays.copyOf(priceChanges24h, capacity);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.johnbeo.johnbeo.cryptodata.dto.ChartSeries;
+import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
+import com.johnbeo.johnbeo.cryptodata.dto.SimplePriceDto;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Token-level readers for CoinGecko payloads. Only the rendered fields are read; everything else is skipped
+ * without building a tree or binding DTOs.
+ */
+public final class MarketPayloadParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private MarketPayloadParser() {
+    }
+
+    public static MarketColumns parseMarkets(InputStream body, int expectedSize) throws IOException {
+        MarketColumns.Builder builder = new MarketColumns.Builder(expectedSize);
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of markets");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                readMarket(parser, builder);
+            }
+        }
+        return builder.build();
+    }
+
+    public static CoinCatalog parseCoinList(InputStream body) throws IOException {
+        CoinCatalog.Builder builder = new CoinCatalog.Builder(16_384);
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of coins");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String id = null;
+                String symbol = null;
+                String name = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "id" -> id = parser.getValueAsString();
+                        case "symbol" -> symbol = parser.getValueAsString();
+                        case "name" -> name = parser.getValueAsString();
+                        default -> parser.skipChildren();
+                    }
+                }
+                builder.add(id, symbol, name);
+            }
+        }
+        return builder.build();
+    }
+
+    public static Map<String, SimplePriceDto> parseSimplePrices(
+        InputStream body,
+        Collection<String> coinIds,
+        String vsCurrency
+    ) throws IOException {
+        Set<String> wanted = new HashSet<>(coinIds);
+        String changeField = vsCurrency + "_24h_change";
+        Map<String, SimplePriceDto> prices = new LinkedHashMap<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object of prices");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String coinId = parser.currentName();
+                if (parser.nextToken() != JsonToken.START_OBJECT || !wanted.contains(coinId)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                double price = Double.NaN;
+                double change24h = Double.NaN;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    if (vsCurrency.equals(field)) {
+                        price = readDouble(parser);
+                    } else if (changeField.equals(field)) {
+                        change24h = readDouble(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (!Double.isNaN(price)) {
+                    prices.put(coinId, new SimplePriceDto(MarketColumns.toDecimal(price), MarketColumns.toDecimal(change24h)));
+                }
+            }
+        }
+        return prices;
+    }
+
+    public static MarketChartDto parseMarketChart(InputStream body) throws IOException {
+        ChartSeries prices = ChartSeries.empty();
+        ChartSeries marketCaps = ChartSeries.empty();
+        ChartSeries totalVolumes = ChartSeries.empty();
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object of chart series");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "prices" -> prices = readSeries(parser);
+                    case "market_caps" -> marketCaps = readSeries(parser);
+                    case "total_volumes" -> totalVolumes = readSeries(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return new MarketChartDto(prices, marketCaps, totalVolumes);
+    }
+
+    private static ChartSeries readSeries(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return ChartSeries.empty();
+        }
+        long[] timestamps = new long[256];
+        double[] values = new double[256];
+        int size = 0;
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            long timestamp = 0;
+            double value = Double.NaN;
+            boolean hasTimestamp = false;
+            int position = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                if (position == 0 && token.isNumeric()) {
+                    timestamp = parser.getValueAsLong();
+                    hasTimestamp = true;
+                } else if (position == 1) {
+                    value = readDouble(parser);
+                } else {
+                    parser.skipChildren();
+                }
+                position++;
+            }
+            if (hasTimestamp && position >= 2) {
+                if (size == timestamps.length) {
+                    timestamps = Arrays.copyOf(timestamps, size * 2);
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                timestamps[size] = timestamp;
+                values[size] = value;
+                size++;
+            }
+        }
+        return new ChartSeries(Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size));
+    }
+
+    private static void readMarket(JsonParser parser, MarketColumns.Builder builder) throws IOException {
+        String id = null;
+        String symbol = null;
+        String name = null;
+        String image = null;
+        double currentPrice = Double.NaN;
+        double marketCap = Double.NaN;
+        double totalVolume = Double.NaN;
+        double priceChange24h = Double.NaN;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> id = parser.getValueAsString();
+                case "symbol" -> symbol = parser.getValueAsString();
+                case "name" -> name = parser.getValueAsString();
+                case "image" -> image = parser.getValueAsString();
+                case "current_price" -> currentPrice = readDouble(parser);
+                case "market_cap" -> marketCap = readDouble(parser);
+                case "total_volume" -> totalVolume = readDouble(parser);
+                case "price_change_percentage_24h" -> priceChange24h = readDouble(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        builder.add(id, symbol, name, image, currentPrice, marketCap, totalVolume, priceChange24h);
+    }
+
+    private static double readDouble(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDoubleValue();
+        }
+        parser.skipChildren();
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,148 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.johnbeo.johnbeo.cryptodata.dto.CoinMarketDto;
+import com.johnbeo.johnbeo.cryptodata.dto.Versioned;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+public record MarketSnapshot(Map<String, CurrencyMarkets> currencies) {
+
+    private static final MarketSnapshot EMPTY = new MarketSnapshot(Map.of());
+
+    public MarketSnapshot {
+        currencies = Map.copyOf(currencies);
+    }
+
+    public static MarketSnapshot empty() {
+        return EMPTY;
+    }
+
+    public MarketSnapshot with(String currency, MarketColumns columns, Instant fetchedAt, String epoch, long version) {
+        String key = normalize(currency);
+        Map<String, CurrencyMarkets> next = new HashMap<>(currencies);
+        next.put(key, CurrencyMarkets.next(currencies.get(key), columns, fetchedAt, epoch, version));
+        return new MarketSnapshot(next);
+    }
+
+    public Optional<CurrencyMarkets> find(String currency) {
+        if (currency == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(currencies.get(normalize(currency)));
+    }
+
+    private static String normalize(String currency) {
+        return currency.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * One currency's top markets. {@code versions[i]} is the publish version in which row {@code i} last changed and
+     * {@code modifiedAt[i]} the matching fetch time, so unchanged rows keep their version across polls. Versions are
+     * only comparable within one {@code epoch}, which is random per process; change tokens handed to clients are
+     * {@code epoch.version} and a token from another epoch is answered with the full page.
+     */
+    public record CurrencyMarkets(
+        MarketColumns columns,
+        Instant fetchedAt,
+        String epoch,
+        long[] versions,
+        long[] modifiedAt
+    ) {
+
+        static CurrencyMarkets next(
+            CurrencyMarkets previous,
+            MarketColumns columns,
+            Instant fetchedAt,
+            String epoch,
+            long version
+        ) {
+            long[] versions = new long[columns.size()];
+            long[] modifiedAt = new long[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                int before = previous != null ? previous.columns.indexOf(columns.id(i)) : -1;
+                if (before >= 0 && columns.sameRow(i, previous.columns, before)) {
+                    versions[i] = previous.versions[before];
+                    modifiedAt[i] = previous.modifiedAt[before];
+                } else {
+                    versions[i] = version;
+                    modifiedAt[i] = fetchedAt.toEpochMilli();
+                }
+            }
+            return new CurrencyMarkets(columns, fetchedAt, epoch, versions, modifiedAt);
+        }
+
+        public Optional<List<CoinMarketDto>> page(int perPage, int page) {
+            return versionedPage(perPage, page, null).map(Versioned::value);
+        }
+
+        public Optional<Versioned<List<CoinMarketDto>>> versionedPage(int perPage, int page, String sinceVersion) {
+            if (perPage <= 0 || page <= 0) {
+                return Optional.empty();
+            }
+            long from = (long) (page - 1) * perPage;
+            long to = from + perPage;
+            if (to > columns.size()) {
+                return Optional.empty();
+            }
+            Long since = sinceVersion(sinceVersion);
+            long high = 0x243F6A8885A308D3L;
+            long low = 0x13198A2E03707344L;
+            long latestVersion = 0;
+            long lastModified = 0;
+            int[] rows = new int[perPage];
+            int selected = 0;
+            for (int i = (int) from; i < to; i++) {
+                long row = ((long) columns.id(i).hashCode() << 32) ^ columns.id(i).length();
+                high = mix(mix(high ^ row) ^ versions[i]);
+                low = mix(mix(low ^ versions[i]) ^ row);
+                latestVersion = Math.max(latestVersion, versions[i]);
+                lastModified = Math.max(lastModified, modifiedAt[i]);
+                if (since == null || versions[i] > since) {
+                    rows[selected++] = i;
+                }
+            }
+            String version = epoch + '.' + String.format("%016x%016x", high, low)
+                + (since != null ? "-since-" + Long.toString(since, 36) : "");
+            return Optional.of(new Versioned<>(
+                columns.rows(Arrays.copyOf(rows, selected)),
+                version,
+                Instant.ofEpochMilli(lastModified),
+                epoch + '.' + Long.toString(latestVersion, 36)
+            ));
+        }
+
+        private Long sinceVersion(String token) {
+            if (token == null || !token.startsWith(epoch + '.')) {
+                return null;
+            }
+            try {
+                return Long.parseLong(token.substring(epoch.length() + 1), 36);
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+
+        public Optional<List<CoinMarketDto>> findAll(List<String> coinIds) {
+            int[] rows = new int[coinIds.size()];
+            for (int i = 0; i < rows.length; i++) {
+                rows[i] = columns.indexOf(coinIds.get(i));
+                if (rows[i] < 0) {
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(columns.rows(rows));
+        }
+    }
+
+    private static long mix(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
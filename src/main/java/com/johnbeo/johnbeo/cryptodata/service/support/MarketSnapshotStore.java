@@ -0,0 +1,40 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MarketSnapshotStore {
+
+    private final AtomicReference<MarketSnapshot> current = new AtomicReference<>(MarketSnapshot.empty());
+    private final String epoch = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong versions = new AtomicLong();
+    private final CoinGeckoProperties properties;
+    private final Clock clock;
+
+    public MarketSnapshot current() {
+        return current.get();
+    }
+
+    public void publish(String currency, MarketColumns columns) {
+        Instant fetchedAt = Instant.now(clock);
+        long version = versions.incrementAndGet();
+        current.updateAndGet(snapshot -> snapshot.with(currency, columns, fetchedAt, epoch, version));
+    }
+
+    public Optional<MarketSnapshot.CurrencyMarkets> findFresh(String currency) {
+        Duration maxAge = properties.getSnapshot().getMaxAge();
+        Instant oldestAccepted = Instant.now(clock).minus(maxAge);
+        return current.get().find(currency)
+            .filter(markets -> !markets.fetchedAt().isBefore(oldestAccepted));
+    }
+}
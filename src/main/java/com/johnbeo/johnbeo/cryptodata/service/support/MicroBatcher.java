@@ -0,0 +1,191 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Merges id lookups that arrive within a short window into one load. The first caller of a batch
+ * waits for the window, loads the union of every joined id and fans the values back out.
+ */
+@Component
+public class MicroBatcher {
+
+    private final ConcurrentMap<String, Batch> openBatches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> loading = new ConcurrentHashMap<>();
+
+    /**
+     * True when no batch for {@code batchKey} is open or loading, so waiting for a window could not merge anything
+     * and the caller may pass {@link Duration#ZERO}.
+     */
+    public boolean isIdle(String batchKey) {
+        AtomicInteger inFlight = loading.get(batchKey);
+        return !openBatches.containsKey(batchKey) && (inFlight == null || inFlight.get() == 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> Map<String, V> load(
+        String batchKey,
+        Collection<String> ids,
+        Duration window,
+        Function<List<String>, Map<String, V>> loader
+    ) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Membership membership = join(batchKey, ids);
+        Batch batch = membership.batch();
+        if (membership.leader()) {
+            AtomicInteger inFlight = inFlight(batchKey);
+            try {
+                pause(window);
+                List<String> union = close(batchKey, batch);
+                batch.result.complete((Map<String, Object>) loader.apply(union));
+            } catch (RuntimeException | Error ex) {
+                batch.result.completeExceptionally(ex);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+        return (Map<String, V>) select(await(batch), ids);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> Mono<Map<String, V>> loadAsync(
+        String batchKey,
+        Collection<String> ids,
+        Duration window,
+        Function<List<String>, Mono<Map<String, V>>> loader
+    ) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return Mono.deferContextual(context -> {
+            Membership membership = join(batchKey, ids);
+            Batch batch = membership.batch();
+            if (membership.leader()) {
+                AtomicInteger inFlight = inFlight(batchKey);
+                Mono.delay(window)
+                    .then(Mono.defer(() -> loader.apply(close(batchKey, batch))))
+                    .map(values -> (Map<String, Object>) values)
+                    .defaultIfEmpty(Map.of())
+                    .contextWrite(context)
+                    .doFinally(signal -> inFlight.decrementAndGet())
+                    .subscribe(batch.result::complete, batch.result::completeExceptionally);
+            }
+            return Mono.fromFuture(batch.result, true)
+                .map(values -> (Map<String, V>) select(values, ids));
+        });
+    }
+
+    private Membership join(String batchKey, Collection<String> ids) {
+        while (true) {
+            Batch candidate = new Batch();
+            candidate.join(ids);
+            Batch existing = openBatches.putIfAbsent(batchKey, candidate);
+            if (existing == null) {
+                return new Membership(candidate, true);
+            }
+            if (existing.join(ids)) {
+                return new Membership(existing, false);
+            }
+            openBatches.remove(batchKey, existing);
+        }
+    }
+
+    private AtomicInteger inFlight(String batchKey) {
+        AtomicInteger inFlight = loading.computeIfAbsent(batchKey, key -> new AtomicInteger());
+        inFlight.incrementAndGet();
+        return inFlight;
+    }
+
+    private List<String> close(String batchKey, Batch batch) {
+        List<String> union = batch.close();
+        openBatches.remove(batchKey, batch);
+        return union;
+    }
+
+    private Map<String, Object> select(Map<String, Object> values, Collection<String> ids) {
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (String id : ids) {
+            Object value = values.get(id);
+            if (value != null) {
+                selected.put(id, value);
+            }
+        }
+        return selected;
+    }
+
+    private Map<String, Object> await(Batch batch) {
+        try {
+            return batch.result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private void pause(Duration window) {
+        if (window.isZero() || window.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(window.toMillis(), window.toNanosPart() % 1_000_000);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Membership(Batch batch, boolean leader) {
+    }
+
+    private static final class Batch {
+
+        private final Set<String> ids = new LinkedHashSet<>();
+        private final CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean closed;
+
+        private boolean join(Collection<String> requested) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                ids.addAll(requested);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<String> close() {
+            lock.lock();
+            try {
+                closed = true;
+                return new ArrayList<>(ids);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
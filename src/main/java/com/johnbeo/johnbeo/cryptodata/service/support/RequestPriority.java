@@ -0,0 +1,47 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+public enum RequestPriority {
+    INTERACTIVE,
+    VALIDATION,
+    BACKGROUND;
+
+    private static final ThreadLocal<RequestPriority> CURRENT = new ThreadLocal<>();
+
+    public static RequestPriority current() {
+        RequestPriority priority = CURRENT.get();
+        return priority != null ? priority : INTERACTIVE;
+    }
+
+    public static RequestPriority current(ContextView context) {
+        return context.getOrDefault(RequestPriority.class, INTERACTIVE);
+    }
+
+    public <T> Mono<T> within(Mono<T> mono) {
+        return mono.contextWrite(context -> context.put(RequestPriority.class, this));
+    }
+
+    public <T> T call(Supplier<T> task) {
+        RequestPriority previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+}
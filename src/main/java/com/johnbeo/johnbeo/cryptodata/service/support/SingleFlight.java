@@ -0,0 +1,108 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.johnbeo.johnbeo.common.exception.ExternalApiException;
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the loader,
+ * every caller that arrives while it is in flight receives the same result or failure.
+ * Blocking and reactive callers share the same in-flight calls. Waiters give up after the upstream request
+ * timeout, and a loader that asks for its own key on the same thread fails fast instead of waiting on itself.
+ */
+@Component
+public class SingleFlight {
+
+    private static final ThreadLocal<Set<String>> LEADING = ThreadLocal.withInitial(HashSet::new);
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Duration waitTimeout;
+
+    @Autowired
+    public SingleFlight(CoinGeckoProperties properties) {
+        this(properties.getRequestTimeout());
+    }
+
+    public SingleFlight(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        Set<String> leading = LEADING.get();
+        if (leading.contains(key)) {
+            throw new IllegalStateException("Re-entrant single-flight call for key: " + key);
+        }
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return (T) await(key, existing);
+        }
+        leading.add(key);
+        try {
+            T value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            leading.remove(key);
+            inFlight.remove(key, call);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> executeAsync(String key, Supplier<Mono<T>> loader) {
+        return Mono.deferContextual(context -> {
+            CompletableFuture<Object> call = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+            if (existing != null) {
+                return Mono.fromFuture(existing, true)
+                    .timeout(waitTimeout, Mono.error(() -> waitTimedOut(key)))
+                    .map(value -> (T) value);
+            }
+            Mono.defer(loader)
+                .doFinally(signal -> inFlight.remove(key, call))
+                .contextWrite(context)
+                .subscribe(call::complete, call::completeExceptionally, () -> call.complete(null));
+            return Mono.fromFuture(call, true).map(value -> (T) value);
+        });
+    }
+
+    private Object await(String key, CompletableFuture<Object> call) {
+        try {
+            return call.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw waitTimedOut(key);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException("Interrupted waiting for in-flight load: " + key, ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new ExternalApiException("In-flight load failed: " + key, cause);
+        }
+    }
+
+    private ExternalApiException waitTimedOut(String key) {
+        return new ExternalApiException("Timed out after " + waitTimeout + " waiting for in-flight load: " + key);
+    }
+}
@@ -0,0 +1,237 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.johnbeo.johnbeo.common.config.CacheProperties;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves entries younger than the cache's refresh-after-write (soft TTL) directly. Older entries are
+ * returned immediately while a background refresh runs; they stay available as a last-known-good value
+ * until the cache's ttl (hard TTL) evicts them. The async variants never block: misses load through the
+ * returned {@link Mono} and stale entries revalidate on a detached subscription. Batch lookups keep one
+ * entry per id, so overlapping id sets only load the ids that are missing. Every entry carries a content version
+ * whose last-modified time only moves when a reload actually changes the value.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaleWhileRevalidateCache {
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final CacheManager cacheManager;
+    private final CacheProperties cacheProperties;
+    private final SingleFlight singleFlight;
+    private final Clock clock;
+    private final @Qualifier("applicationTaskExecutor") Executor applicationTaskExecutor;
+
+    public <T> T get(String cacheName, String key, Supplier<T> loader) {
+        return get(cacheName, key, loader, value -> value != null);
+    }
+
+    public <T> T get(String cacheName, String key, Supplier<T> loader, Predicate<T> cacheable) {
+        Cache cache = requireCache(cacheName);
+        CachedValue<T> cached = lookup(cache, key);
+        if (cached == null) {
+            return load(cache, key, loader, cacheable);
+        }
+        Duration refreshAfterWrite = cacheProperties.policyFor(cacheName).getRefreshAfterWrite();
+        if (refreshAfterWrite != null && cached.isOlderThan(refreshAfterWrite, Instant.now(clock))) {
+            refreshAsync(flightKey(cache, key), () -> load(cache, key, loader, cacheable));
+        }
+        return cached.value();
+    }
+
+    public <T> T peek(String cacheName, String key) {
+        CachedValue<T> cached = lookup(requireCache(cacheName), key);
+        return cached != null ? cached.value() : null;
+    }
+
+    public <T> Map<String, T> getAll(
+        String cacheName,
+        Collection<String> ids,
+        Function<String, String> keyFor,
+        Function<List<String>, Map<String, T>> loader
+    ) {
+        Cache cache = requireCache(cacheName);
+        Duration refreshAfterWrite = cacheProperties.policyFor(cacheName).getRefreshAfterWrite();
+        Instant now = Instant.now(clock);
+        Map<String, T> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        List<String> stale = new ArrayList<>();
+        for (String id : ids) {
+            CachedValue<T> cached = lookup(cache, keyFor.apply(id));
+            if (cached == null) {
+                missing.add(id);
+                continue;
+            }
+            found.put(id, cached.value());
+            if (refreshAfterWrite != null && cached.isOlderThan(refreshAfterWrite, now)) {
+                stale.add(id);
+            }
+        }
+        if (!stale.isEmpty()) {
+            refreshAsync(batchFlightKey(cache, stale, keyFor), () -> loadAll(cache, stale, keyFor, loader));
+        }
+        if (!missing.isEmpty()) {
+            found.putAll(loadAll(cache, missing, keyFor, loader));
+        }
+        Map<String, T> result = new LinkedHashMap<>();
+        for (String id : ids) {
+            T value = found.get(id);
+            if (value != null) {
+                result.put(id, value);
+            }
+        }
+        return result;
+    }
+
+    public <T> Mono<T> getAsync(String cacheName, String key, Supplier<Mono<T>> loader, Predicate<T> cacheable) {
+        return getEntryAsync(cacheName, key, loader, cacheable).mapNotNull(CachedValue::value);
+    }
+
+    public <T> Mono<CachedValue<T>> getEntryAsync(
+        String cacheName,
+        String key,
+        Supplier<Mono<T>> loader,
+        Predicate<T> cacheable
+    ) {
+        return Mono.defer(() -> {
+            Cache cache = requireCache(cacheName);
+            CachedValue<T> cached = lookup(cache, key);
+            if (cached == null) {
+                return loadAsync(cache, key, loader, cacheable).map(value -> entryFor(cache, key, value));
+            }
+            Duration refreshAfterWrite = cacheProperties.policyFor(cacheName).getRefreshAfterWrite();
+            if (refreshAfterWrite != null && cached.isOlderThan(refreshAfterWrite, Instant.now(clock))) {
+                revalidateAsync(cache, key, loader, cacheable);
+            }
+            return Mono.just(cached);
+        });
+    }
+
+    private <T> CachedValue<T> entryFor(Cache cache, String key, T value) {
+        CachedValue<T> stored = lookup(cache, key);
+        return stored != null && stored.value() == value ? stored : new CachedValue<>(value, Instant.now(clock));
+    }
+
+    private <T> Mono<T> loadAsync(Cache cache, String key, Supplier<Mono<T>> loader, Predicate<T> cacheable) {
+        return singleFlight.executeAsync(flightKey(cache, key), () -> Mono.defer(loader)
+            .doOnNext(value -> {
+                if (cacheable.test(value)) {
+                    store(cache, key, value, Instant.now(clock));
+                }
+            }));
+    }
+
+    private <T> void revalidateAsync(Cache cache, String key, Supplier<Mono<T>> loader, Predicate<T> cacheable) {
+        String flightKey = flightKey(cache, key);
+        if (!refreshing.add(flightKey)) {
+            return;
+        }
+        RequestPriority.BACKGROUND.within(loadAsync(cache, key, loader, cacheable))
+            .doFinally(signal -> refreshing.remove(flightKey))
+            .subscribe(
+                value -> { },
+                ex -> log.warn("Background refresh failed for [{}], serving last known value", flightKey, ex)
+            );
+    }
+
+    private <T> T load(Cache cache, String key, Supplier<T> loader, Predicate<T> cacheable) {
+        return singleFlight.execute(flightKey(cache, key), () -> {
+            T value = loader.get();
+            if (cacheable.test(value)) {
+                store(cache, key, value, Instant.now(clock));
+            }
+            return value;
+        });
+    }
+
+    private <T> Map<String, T> loadAll(
+        Cache cache,
+        List<String> ids,
+        Function<String, String> keyFor,
+        Function<List<String>, Map<String, T>> loader
+    ) {
+        return singleFlight.execute(batchFlightKey(cache, ids, keyFor), () -> {
+            Map<String, T> loaded = loader.apply(ids);
+            Instant fetchedAt = Instant.now(clock);
+            loaded.forEach((id, value) -> {
+                if (value != null) {
+                    store(cache, keyFor.apply(id), value, fetchedAt);
+                }
+            });
+            return loaded;
+        });
+    }
+
+    private void refreshAsync(String flightKey, Supplier<?> refresh) {
+        if (!refreshing.add(flightKey)) {
+            return;
+        }
+        try {
+            applicationTaskExecutor.execute(() -> {
+                try {
+                    RequestPriority.BACKGROUND.call(refresh);
+                } catch (Exception ex) {
+                    log.warn("Background refresh failed for [{}], serving last known value", flightKey, ex);
+                } finally {
+                    refreshing.remove(flightKey);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(flightKey);
+            log.warn("Background refresh rejected for [{}]", flightKey, ex);
+        }
+    }
+
+    private <T> void store(Cache cache, String key, T value, Instant fetchedAt) {
+        cache.put(key, CachedValue.replacing(lookup(cache, key), value, fetchedAt));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CachedValue<T> lookup(Cache cache, String key) {
+        Cache.ValueWrapper wrapper = cache.get(key);
+        if (wrapper == null || !(wrapper.get() instanceof CachedValue<?> cached)) {
+            return null;
+        }
+        return (CachedValue<T>) cached;
+    }
+
+    private Cache requireCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + cacheName);
+        }
+        return cache;
+    }
+
+    private String flightKey(Cache cache, String key) {
+        return cache.getName() + ':' + key;
+    }
+
+    private String batchFlightKey(Cache cache, List<String> ids, Function<String, String> keyFor) {
+        return cache.getName() + ':' + ids.stream().map(keyFor).collect(Collectors.joining(","));
+    }
+}
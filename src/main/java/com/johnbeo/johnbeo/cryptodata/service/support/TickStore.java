@@ -0,0 +1,357 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import com.johnbeo.johnbeo.cryptodata.dto.ChartSeries;
+import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Embedded tick database fed by the market snapshot poller. Each (currency, coin) series is a list of sealed
+ * {@link GorillaBlock}s plus one open block. Compaction rewrites blocks older than {@code compact-after} at
+ * {@code compacted-resolution}, keeping the last tick per interval, and retention drops whole blocks.
+ */
+@Component
+@RequiredArgsConstructor
+public class TickStore {
+
+    private static final Duration MIN_CHART_BUCKET = Duration.ofMinutes(5);
+
+    private final Map<String, TickSeries> series = new ConcurrentHashMap<>();
+    private final CoinGeckoProperties properties;
+    private final Clock clock;
+
+    public void record(String vsCurrency, MarketColumns columns) {
+        CoinGeckoProperties.Ticks ticks = properties.getTicks();
+        if (!ticks.isEnabled()) {
+            return;
+        }
+        long observedAt = clock.millis();
+        for (int i = 0; i < columns.size(); i++) {
+            String coinId = columns.id(i);
+            double price = columns.currentPrice(i);
+            if (coinId == null || Double.isNaN(price)) {
+                continue;
+            }
+            series.computeIfAbsent(key(coinId, vsCurrency), ignored -> new TickSeries(ticks.getBlockSize()))
+                .append(observedAt, price, columns.marketCap(i), columns.totalVolume(i));
+        }
+    }
+
+    public MarketChartDto scan(String coinId, String vsCurrency, long from, long to) {
+        TickSeries ticks = series.get(key(coinId, vsCurrency));
+        if (ticks == null) {
+            return MarketChartDto.empty();
+        }
+        SeriesBuilder builder = new SeriesBuilder();
+        ticks.forEach(from, to, builder::add);
+        return builder.build();
+    }
+
+    public List<Bucket> aggregate(String coinId, String vsCurrency, long from, long to, Duration width) {
+        TickSeries ticks = series.get(key(coinId, vsCurrency));
+        if (ticks == null) {
+            return List.of();
+        }
+        long widthMillis = Math.max(1, width.toMillis());
+        List<Bucket> buckets = new ArrayList<>();
+        BucketAccumulator accumulator = new BucketAccumulator(widthMillis, buckets);
+        ticks.forEach(from, to, accumulator::add);
+        accumulator.flush();
+        return buckets;
+    }
+
+    public Optional<MarketChartDto> chart(String coinId, String vsCurrency, int days) {
+        TickSeries ticks = series.get(key(coinId, vsCurrency));
+        if (ticks == null || !properties.getTicks().isEnabled()) {
+            return Optional.empty();
+        }
+        long now = clock.millis();
+        long from = now - Duration.ofDays(days).toMillis();
+        Duration width = ChartTailMerger.bucketFor(days);
+        if (width.compareTo(MIN_CHART_BUCKET) < 0) {
+            width = MIN_CHART_BUCKET;
+        }
+        long maxAge = properties.getSnapshot().getMaxAge().toMillis();
+        if (!ticks.covers(from + width.toMillis(), now - maxAge)) {
+            return Optional.empty();
+        }
+        SeriesBuilder builder = new SeriesBuilder();
+        for (Bucket bucket : aggregate(coinId, vsCurrency, from, now, width)) {
+            builder.add(bucket.closeTimestamp(), bucket.close(), bucket.marketCap(), bucket.totalVolume());
+        }
+        return Optional.of(builder.build());
+    }
+
+    @Scheduled(fixedDelayString = "${coingecko.ticks.compaction-interval:PT10M}")
+    public void compact() {
+        CoinGeckoProperties.Ticks ticks = properties.getTicks();
+        long now = clock.millis();
+        long retainFrom = now - ticks.getRetention().toMillis();
+        long compactBefore = now - ticks.getCompactAfter().toMillis();
+        long resolution = ticks.getCompactedResolution().toMillis();
+        series.entrySet().removeIf(entry -> {
+            entry.getValue().compact(retainFrom, compactBefore, resolution, ticks.getBlockSize());
+            return entry.getValue().isEmpty();
+        });
+    }
+
+    private String key(String coinId, String vsCurrency) {
+        return vsCurrency.toLowerCase(Locale.ROOT) + ':' + coinId.toLowerCase(Locale.ROOT);
+    }
+
+    public record Bucket(
+        long start,
+        long closeTimestamp,
+        double open,
+        double high,
+        double low,
+        double close,
+        double marketCap,
+        double totalVolume,
+        int count
+    ) {
+    }
+
+    private static final class TickSeries {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<GorillaBlock> sealed = new ArrayList<>();
+        private final int blockSize;
+        private GorillaBlock open;
+        private int compacted;
+
+        TickSeries(int blockSize) {
+            this.blockSize = blockSize;
+            this.open = new GorillaBlock(blockSize);
+        }
+
+        void append(long timestamp, double price, double marketCap, double totalVolume) {
+            lock.lock();
+            try {
+                if (open.count() > 0 && timestamp <= open.lastTimestamp()) {
+                    return;
+                }
+                if (open.count() == 0 && !sealed.isEmpty() && timestamp <= sealed.get(sealed.size() - 1).lastTimestamp()) {
+                    return;
+                }
+                open.append(timestamp, price, marketCap, totalVolume);
+                if (open.count() >= blockSize) {
+                    sealed.add(open.seal());
+                    open = new GorillaBlock(blockSize);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void forEach(long from, long to, GorillaBlock.TickVisitor visitor) {
+            lock.lock();
+            try {
+                for (GorillaBlock block : sealed) {
+                    block.forEach(from, to, visitor);
+                }
+                open.forEach(from, to, visitor);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean covers(long from, long freshAfter) {
+            lock.lock();
+            try {
+                long first = !sealed.isEmpty() ? sealed.get(0).firstTimestamp()
+                    : open.count() > 0 ? open.firstTimestamp() : Long.MAX_VALUE;
+                long last = open.count() > 0 ? open.lastTimestamp()
+                    : !sealed.isEmpty() ? sealed.get(sealed.size() - 1).lastTimestamp() : Long.MIN_VALUE;
+                return first <= from && last >= freshAfter;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean isEmpty() {
+            lock.lock();
+            try {
+                return sealed.isEmpty() && open.count() == 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void compact(long retainFrom, long compactBefore, long resolution, int targetBlockSize) {
+            lock.lock();
+            try {
+                while (!sealed.isEmpty() && sealed.get(0).lastTimestamp() < retainFrom) {
+                    sealed.remove(0);
+                    compacted = Math.max(0, compacted - 1);
+                }
+                if (open.count() > 0 && open.lastTimestamp() < retainFrom) {
+                    open = new GorillaBlock(blockSize);
+                } else if (open.count() > 0 && open.lastTimestamp() < compactBefore) {
+                    sealed.add(open.seal());
+                    open = new GorillaBlock(blockSize);
+                }
+                int end = compacted;
+                while (end < sealed.size() && sealed.get(end).lastTimestamp() < compactBefore) {
+                    end++;
+                }
+                if (end == compacted) {
+                    return;
+                }
+                List<GorillaBlock> rewritten = new ArrayList<>();
+                Downsampler downsampler = new Downsampler(resolution, targetBlockSize, rewritten);
+                for (GorillaBlock block : sealed.subList(compacted, end)) {
+                    block.forEach(Long.MIN_VALUE, Long.MAX_VALUE, downsampler::add);
+                }
+                downsampler.flush();
+                sealed.subList(compacted, end).clear();
+                sealed.addAll(compacted, rewritten);
+                compacted += rewritten.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Downsampler {
+
+        private final long resolution;
+        private final int blockSize;
+        private final List<GorillaBlock> output;
+        private GorillaBlock current;
+        private long bucket = Long.MIN_VALUE;
+        private long timestamp;
+        private double price;
+        private double marketCap;
+        private double totalVolume;
+
+        Downsampler(long resolution, int blockSize, List<GorillaBlock> output) {
+            this.resolution = Math.max(1, resolution);
+            this.blockSize = blockSize;
+            this.output = output;
+        }
+
+        void add(long timestamp, double price, double marketCap, double totalVolume) {
+            long tickBucket = Math.floorDiv(timestamp, resolution);
+            if (tickBucket != bucket && bucket != Long.MIN_VALUE) {
+                emit();
+            }
+            bucket = tickBucket;
+            this.timestamp = timestamp;
+            this.price = price;
+            this.marketCap = marketCap;
+            this.totalVolume = totalVolume;
+        }
+
+        void flush() {
+            if (bucket != Long.MIN_VALUE) {
+                emit();
+            }
+            if (current != null && current.count() > 0) {
+                output.add(current.seal());
+            }
+        }
+
+        private void emit() {
+            if (current == null) {
+                current = new GorillaBlock(blockSize);
+            }
+            current.append(timestamp, price, marketCap, totalVolume);
+            if (current.count() >= blockSize) {
+                output.add(current.seal());
+                current = null;
+            }
+        }
+    }
+
+    private static final class BucketAccumulator {
+
+        private final long width;
+        private final List<Bucket> output;
+        private long start = Long.MIN_VALUE;
+        private long closeTimestamp;
+        private double open;
+        private double high;
+        private double low;
+        private double close;
+        private double marketCap;
+        private double totalVolume;
+        private int count;
+
+        BucketAccumulator(long width, List<Bucket> output) {
+            this.width = width;
+            this.output = output;
+        }
+
+        void add(long timestamp, double price, double cap, double volume) {
+            long bucketStart = Math.floorDiv(timestamp, width) * width;
+            if (bucketStart != start) {
+                flush();
+                start = bucketStart;
+                open = price;
+                high = price;
+                low = price;
+                count = 0;
+            }
+            high = Math.max(high, price);
+            low = Math.min(low, price);
+            close = price;
+            closeTimestamp = timestamp;
+            marketCap = cap;
+            totalVolume = volume;
+            count++;
+        }
+
+        void flush() {
+            if (count > 0) {
+                output.add(new Bucket(start, closeTimestamp, open, high, low, close, marketCap, totalVolume, count));
+                count = 0;
+            }
+        }
+    }
+
+    private static final class SeriesBuilder {
+
+        private long[] timestamps = new long[64];
+        private double[] prices = new double[64];
+        private double[] marketCaps = new double[64];
+        private double[] totalVolumes = new double[64];
+        private int size;
+
+        void add(long timestamp, double price, double marketCap, double totalVolume) {
+            if (size == timestamps.length) {
+                int capacity = size * 2;
+                timestamps = Arrays.copyOf(timestamps, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                marketCaps = Arrays.copyOf(marketCaps, capacity);
+                totalVolumes = Arrays.copyOf(totalVolumes, capacity);
+            }
+            timestamps[size] = timestamp;
+            prices[size] = price;
+            marketCaps[size] = marketCap;
+            totalVolumes[size] = totalVolume;
+            size++;
+        }
+
+        MarketChartDto build() {
+            long[] window = Arrays.copyOf(timestamps, size);
+            return new MarketChartDto(
+                new ChartSeries(window, Arrays.copyOf(prices, size)),
+                new ChartSeries(window, Arrays.copyOf(marketCaps, size)),
+                new ChartSeries(window, Arrays.copyOf(totalVolumes, size))
+            );
+        }
+    }
+}
@@ -10,7 +10,7 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     boolean existsByMemberIdAndPostId(Long memberId, Long postId);
 
-    void deleteByMemberIdAndPostId(Long memberId, Long postId);
+    long deleteByMemberIdAndPostId(Long memberId, Long postId);
 
     long countByPostId(Long postId);
 }
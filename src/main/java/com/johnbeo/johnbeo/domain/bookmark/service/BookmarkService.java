@@ -28,7 +28,7 @@ public class BookmarkService {
     }
 
     public long countByPost(Long postId) {
-        return bookmarkRepository.countByPostId(postId);
+        return postRepository.findBookmarkCount(postId).orElse(0L);
     }
 
     @Transactional
@@ -43,13 +43,17 @@ public class BookmarkService {
             .post(post)
             .build();
         bookmarkRepository.save(bookmark);
+        postRepository.addBookmarkCount(postId, 1);
     }
 
     @Transactional
     public void removeBookmark(Long memberId, Long postId) {
         requireMember(memberId);
         requirePost(postId);
-        bookmarkRepository.deleteByMemberIdAndPostId(memberId, postId);
+        long removed = bookmarkRepository.deleteByMemberIdAndPostId(memberId, postId);
+        if (removed > 0) {
+            postRepository.addBookmarkCount(postId, -removed);
+        }
     }
 
     private Member requireMember(Long memberId) {
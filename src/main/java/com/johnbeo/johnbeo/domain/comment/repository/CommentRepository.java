@@ -7,6 +7,9 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
@@ -22,4 +25,38 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
     long countByPostId(Long postId);
+
+    @Query("SELECT c.upVoteCount AS upVotes, c.downVoteCount AS downVotes FROM Comment c WHERE c.id = :commentId")
+    Optional<VoteTally> findVoteTally(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Query(value = "UPDATE comments SET up_vote_count = up_vote_count + :upDelta, "
+        + "down_vote_count = down_vote_count + :downDelta WHERE id = :commentId", nativeQuery = true)
+    int addVoteCounts(
+        @Param("commentId") Long commentId,
+        @Param("upDelta") long upDelta,
+        @Param("downDelta") long downDelta
+    );
+
+    @Query(value = "SELECT c.id AS id, "
+        + "(SELECT COUNT(*) FROM votes v WHERE v.target_type = 'COMMENT' AND v.target_id = c.id AND v.vote_value > 0)"
+        + " - c.up_vote_count AS upVoteDrift, "
+        + "(SELECT COUNT(*) FROM votes v WHERE v.target_type = 'COMMENT' AND v.target_id = c.id AND v.vote_value < 0)"
+        + " - c.down_vote_count AS downVoteDrift "
+        + "FROM comments c WHERE c.id > :afterId ORDER BY c.id LIMIT :batchSize", nativeQuery = true)
+    List<VoteDrift> findVoteDrift(@Param("afterId") long afterId, @Param("batchSize") int batchSize);
+
+    interface VoteTally {
+        long getUpVotes();
+
+        long getDownVotes();
+    }
+
+    interface VoteDrift {
+        Long getId();
+
+        long getUpVoteDrift();
+
+        long getDownVoteDrift();
+    }
 }
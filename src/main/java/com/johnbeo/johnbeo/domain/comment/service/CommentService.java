@@ -7,9 +7,11 @@ import com.johnbeo.johnbeo.domain.comment.dto.CreateCommentRequest;
 import com.johnbeo.johnbeo.domain.comment.dto.UpdateCommentRequest;
 import com.johnbeo.johnbeo.domain.comment.entity.Comment;
 import com.johnbeo.johnbeo.domain.comment.repository.CommentRepository;
+import com.johnbeo.johnbeo.domain.feed.event.HomeFeedChangedEvent;
 import com.johnbeo.johnbeo.domain.member.entity.Member;
 import com.johnbeo.johnbeo.domain.member.repository.MemberRepository;
 import com.johnbeo.johnbeo.domain.post.entity.Post;
+import com.johnbeo.johnbeo.domain.post.event.PostEngagementEvent;
 import com.johnbeo.johnbeo.domain.post.repository.PostRepository;
 import com.johnbeo.johnbeo.security.model.MemberPrincipal;
 import java.util.ArrayList;
@@ -19,6 +21,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +34,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<CommentResponse> getCommentsByPost(Long postId) {
         List<Comment> comments = commentRepository.findByPostIdOrderByCreatedAtAsc(postId);
@@ -78,6 +82,10 @@ public class CommentService {
             .build();
 
         Comment saved = commentRepository.save(comment);
+        postRepository.addCommentCount(post.getId(), 1);
+        eventPublisher.publishEvent(new HomeFeedChangedEvent(post.getId()));
+        eventPublisher.publishEvent(
+            new PostEngagementEvent(post.getId(), post.getCreatedAt(), PostEngagementEvent.Kind.COMMENT, 1));
         return toResponse(saved, List.of());
     }
 
@@ -87,6 +95,7 @@ public class CommentService {
         Member member = requirePrincipal(principal);
         validateOwnership(comment, member);
         comment.updateContent(request.content());
+        eventPublisher.publishEvent(new HomeFeedChangedEvent(comment.getPost().getId()));
         return toResponse(comment, comment.getChildren().stream().map(child -> toResponse(child, List.of())).toList());
     }
 
@@ -95,7 +104,17 @@ public class CommentService {
         Comment comment = findComment(id);
         Member member = requirePrincipal(principal);
         validateOwnership(comment, member);
+        long removed = countWithReplies(comment);
         commentRepository.delete(comment);
+        Post post = comment.getPost();
+        postRepository.addCommentCount(post.getId(), -removed);
+        eventPublisher.publishEvent(new HomeFeedChangedEvent(post.getId()));
+        eventPublisher.publishEvent(
+            new PostEngagementEvent(post.getId(), post.getCreatedAt(), PostEngagementEvent.Kind.COMMENT, -removed));
+    }
+
+    private long countWithReplies(Comment comment) {
+        return 1 + comment.getChildren().stream().mapToLong(this::countWithReplies).sum();
     }
 
     private Comment findComment(Long id) {
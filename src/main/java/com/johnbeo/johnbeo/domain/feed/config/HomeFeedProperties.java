@@ -0,0 +1,15 @@
+package com.johnbeo.johnbeo.domain.feed.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.home-feed")
+public class HomeFeedProperties {
+
+    private Duration refreshInterval = Duration.ofSeconds(30);
+    private Duration debounce = Duration.ofSeconds(2);
+}
@@ -1,6 +1,8 @@
 package com.johnbeo.johnbeo.domain.feed.dto;
 
 import com.johnbeo.johnbeo.domain.board.model.BoardType;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -10,4 +12,13 @@ public record HomeFeedDto(
     Map<BoardType, List<HomePostCard>> boardFeeds,
     List<RecentCommentCard> recentComments
 ) {
+
+    public HomeFeedDto {
+        trending = List.copyOf(trending);
+        fresh = List.copyOf(fresh);
+        Map<BoardType, List<HomePostCard>> feeds = new EnumMap<>(BoardType.class);
+        boardFeeds.forEach((type, cards) -> feeds.put(type, List.copyOf(cards)));
+        boardFeeds = Collections.unmodifiableMap(feeds);
+        recentComments = List.copyOf(recentComments);
+    }
 }
@@ -0,0 +1,4 @@
+package com.johnbeo.johnbeo.domain.feed.event;
+
+public record HomeFeedChangedEvent(Long postId) {
+}
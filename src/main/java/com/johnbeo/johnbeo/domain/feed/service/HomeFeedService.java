@@ -7,16 +7,18 @@ import com.johnbeo.johnbeo.domain.feed.dto.HomeFeedDto;
 import com.johnbeo.johnbeo.domain.feed.dto.HomePostCard;
 import com.johnbeo.johnbeo.domain.feed.dto.RecentCommentCard;
 import com.johnbeo.johnbeo.domain.post.entity.Post;
+import com.johnbeo.johnbeo.domain.post.model.HotWindow;
 import com.johnbeo.johnbeo.domain.post.repository.PostRepository;
-import com.johnbeo.johnbeo.domain.vote.model.VoteTargetType;
-import com.johnbeo.johnbeo.domain.vote.repository.VoteRepository;
+import com.johnbeo.johnbeo.domain.post.service.HotPostRanking;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -36,16 +38,16 @@ public class HomeFeedService {
 
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
-    private final VoteRepository voteRepository;
+    private final HotPostRanking hotPostRanking;
     private final Clock clock;
 
     public HomeFeedDto loadHomeFeed() {
         Instant now = Instant.now(clock);
         Instant trendingSince = now.minus(2, ChronoUnit.DAYS);
 
-        List<Post> trendingPosts = postRepository.findTrendingSince(trendingSince, page(DEFAULT_CARD_SIZE));
+        List<Post> trendingPosts = loadTrendingPosts(trendingSince);
         List<Post> freshPosts = postRepository.findRecent(page(DEFAULT_CARD_SIZE));
-        Map<BoardType, List<HomePostCard>> boardFeeds = buildBoardFeeds();
+        Map<BoardType, List<HomePostCard>> boardFeeds = loadBoardFeeds();
         List<Comment> latestComments = commentRepository
             .findAllByOrderByCreatedAtDesc(PageRequest.of(0, RECENT_COMMENT_SIZE))
             .getContent();
@@ -58,14 +60,23 @@ public class HomeFeedService {
         );
     }
 
-    private Map<BoardType, List<HomePostCard>> buildBoardFeeds() {
+    private List<Post> loadTrendingPosts(Instant since) {
+        List<Long> hotIds = hotPostRanking.topPostIds(HotWindow.DAY, DEFAULT_CARD_SIZE);
+        if (hotIds.isEmpty()) {
+            return postRepository.findTrendingSince(since, page(DEFAULT_CARD_SIZE));
+        }
+        Map<Long, Post> posts = postRepository.findByIdIn(hotIds).stream()
+            .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return hotIds.stream()
+            .map(posts::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private Map<BoardType, List<HomePostCard>> loadBoardFeeds() {
         Map<BoardType, List<HomePostCard>> feeds = new EnumMap<>(BoardType.class);
-        Pageable pageable = page(BOARD_FEED_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
-        for (BoardType type : BoardType.values()) {
-            List<Post> posts = postRepository.findByBoard_Type(type, pageable).getContent();
-            if (!posts.isEmpty()) {
-                feeds.put(type, toPostCards(posts));
-            }
+        for (PostRepository.BoardFeedRow row : postRepository.findLatestPerBoardType(BOARD_FEED_SIZE)) {
+            feeds.computeIfAbsent(row.getBoardType(), type -> new ArrayList<>()).add(toPostCard(row));
         }
         return feeds;
     }
@@ -80,8 +91,6 @@ public class HomeFeedService {
         String boardName = post.getBoard() != null ? post.getBoard().getName() : "미분류";
         String boardSlug = post.getBoard() != null ? post.getBoard().getSlug() : "";
         String authorNickname = post.getAuthor() != null ? post.getAuthor().getNickname() : "익명";
-        long commentCount = commentRepository.countByPostId(post.getId());
-        long voteScore = voteRepository.sumVoteScore(post.getId(), VoteTargetType.POST);
         return new HomePostCard(
             post.getId(),
             post.getTitle(),
@@ -90,8 +99,22 @@ public class HomeFeedService {
             authorNickname,
             post.getCreatedAt(),
             post.getViewCount(),
-            commentCount,
-            voteScore
+            post.getCommentCount(),
+            post.getVoteScore()
+        );
+    }
+
+    private HomePostCard toPostCard(PostRepository.BoardFeedRow row) {
+        return new HomePostCard(
+            row.getId(),
+            row.getTitle(),
+            row.getBoardName(),
+            row.getBoardSlug(),
+            row.getAuthorNickname(),
+            row.getCreatedAt(),
+            row.getViewCount(),
+            row.getCommentCount(),
+            row.getVoteScore()
         );
     }
 
@@ -125,10 +148,6 @@ public class HomeFeedService {
         return PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "viewCount"));
     }
 
-    private Pageable page(int size, Sort sort) {
-        return PageRequest.of(0, size, sort);
-    }
-
     private String snippet(String content, int maxLength) {
         if (content == null) {
             return "";
@@ -0,0 +1,85 @@
+package com.johnbeo.johnbeo.domain.feed.service;
+
+import com.johnbeo.johnbeo.domain.feed.config.HomeFeedProperties;
+import com.johnbeo.johnbeo.domain.feed.dto.HomeFeedDto;
+import com.johnbeo.johnbeo.domain.feed.event.HomeFeedChangedEvent;
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * The home feed is identical for every visitor, so it is shared as one immutable snapshot. It is rebuilt on
+ * {@code app.home-feed.refresh-interval} and after post, comment or vote commits, debounced by
+ * {@code app.home-feed.debounce}. Only one rebuild runs at a time; a request arriving meanwhile becomes a single
+ * trailing rebuild.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeFeedSnapshot {
+
+    private final HomeFeedService homeFeedService;
+    private final HomeFeedProperties properties;
+    private final TaskScheduler taskScheduler;
+    private final Clock clock;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+    private final AtomicBoolean debouncePending = new AtomicBoolean();
+    private volatile HomeFeedDto current;
+
+    public HomeFeedDto current() {
+        HomeFeedDto feed = current;
+        return feed != null ? feed : loadInitial();
+    }
+
+    @Scheduled(fixedDelayString = "${app.home-feed.refresh-interval:PT30S}")
+    public void refresh() {
+        refreshRequested.set(true);
+        while (refreshRequested.get() && refreshLock.tryLock()) {
+            try {
+                while (refreshRequested.getAndSet(false)) {
+                    rebuild();
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedChanged(HomeFeedChangedEvent event) {
+        if (debouncePending.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                debouncePending.set(false);
+                refresh();
+            }, clock.instant().plus(properties.getDebounce()));
+        }
+    }
+
+    private HomeFeedDto loadInitial() {
+        refreshLock.lock();
+        try {
+            if (current == null) {
+                current = homeFeedService.loadHomeFeed();
+            }
+            return current;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void rebuild() {
+        try {
+            current = homeFeedService.loadHomeFeed();
+        } catch (Exception ex) {
+            log.warn("Failed to rebuild home feed snapshot, keeping previous one", ex);
+        }
+    }
+}
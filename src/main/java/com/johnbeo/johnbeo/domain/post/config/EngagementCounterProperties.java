@@ -0,0 +1,17 @@
+package com.johnbeo.johnbeo.domain.post.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.counters")
+public class EngagementCounterProperties {
+
+    private boolean reconcileEnabled = true;
+    private Duration initialDelay = Duration.ofSeconds(10);
+    private Duration reconcileInterval = Duration.ofMinutes(30);
+    private int batchSize = 500;
+}
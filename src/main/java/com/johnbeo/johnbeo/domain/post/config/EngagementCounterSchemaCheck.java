@@ -0,0 +1,85 @@
+package com.johnbeo.johnbeo.domain.post.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * With {@code ddl-auto=validate} the engagement counter columns have to be added by hand before deploying. This
+ * check runs before the entity manager factory and stops startup with the script to apply, instead of Hibernate's
+ * bare schema-validation error. Tables that do not exist yet are left to Hibernate.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "spring.jpa.hibernate", name = "ddl-auto", havingValue = "validate")
+@RequiredArgsConstructor
+public class EngagementCounterSchemaCheck implements InitializingBean {
+
+    static final String SCRIPT = "src/main/resources/db/mysql/manual/2025-10-engagement-counters.sql";
+
+    private static final Map<String, List<String>> REQUIRED_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        REQUIRED_COLUMNS.put("posts", List.of("comment_count", "bookmark_count", "up_vote_count", "down_vote_count"));
+        REQUIRED_COLUMNS.put("comments", List.of("up_vote_count", "down_vote_count"));
+    }
+
+    private final DataSource dataSource;
+
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor engagementCounterSchemaCheckDependency() {
+        return new EntityManagerFactoryDependsOnPostProcessor(EngagementCounterSchemaCheck.class);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Map.Entry<String, List<String>> table : REQUIRED_COLUMNS.entrySet()) {
+                Set<String> columns = columnsOf(metaData, connection.getCatalog(), table.getKey());
+                if (columns.isEmpty()) {
+                    continue;
+                }
+                for (String column : table.getValue()) {
+                    if (!columns.contains(column)) {
+                        missing.add(table.getKey() + '.' + column);
+                    }
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Engagement counter columns are missing: " + missing
+                + ". Apply " + SCRIPT + " to this database before starting this build (see README).");
+        }
+    }
+
+    private static Set<String> columnsOf(DatabaseMetaData metaData, String catalog, String table) throws SQLException {
+        Set<String> columns = new HashSet<>();
+        for (String name : List.of(table, table.toUpperCase(Locale.ROOT))) {
+            try (ResultSet rows = metaData.getColumns(catalog, null, name, null)) {
+                while (rows.next()) {
+                    columns.add(rows.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+            if (!columns.isEmpty()) {
+                break;
+            }
+        }
+        return columns;
+    }
+}
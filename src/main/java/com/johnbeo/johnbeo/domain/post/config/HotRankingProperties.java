@@ -0,0 +1,26 @@
+package com.johnbeo.johnbeo.domain.post.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.hot-ranking")
+public class HotRankingProperties {
+
+    private boolean enabled = true;
+    private int capacity = 5000;
+    private Duration redecayInterval = Duration.ofMinutes(5);
+    private Weights weights = new Weights();
+
+    @Getter
+    @Setter
+    public static class Weights {
+        private double post = 2.0;
+        private double view = 1.0;
+        private double comment = 4.0;
+        private double vote = 3.0;
+    }
+}
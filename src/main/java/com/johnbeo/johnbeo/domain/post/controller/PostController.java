@@ -5,9 +5,11 @@ import com.johnbeo.johnbeo.domain.post.dto.CreatePostRequest;
 import com.johnbeo.johnbeo.domain.post.dto.PostResponse;
 import com.johnbeo.johnbeo.domain.post.dto.PostSummaryResponse;
 import com.johnbeo.johnbeo.domain.post.dto.UpdatePostRequest;
+import com.johnbeo.johnbeo.domain.post.model.HotWindow;
 import com.johnbeo.johnbeo.domain.post.service.PostService;
 import com.johnbeo.johnbeo.security.model.MemberPrincipal;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -44,6 +46,16 @@ public class PostController {
         return postService.getAllPosts(pageable);
     }
 
+    @GetMapping("/hot")
+    public List<PostSummaryResponse> getHotPosts(
+        @RequestParam(name = "window", defaultValue = "24h") String window,
+        @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        HotWindow hotWindow = HotWindow.fromKey(window)
+            .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 기간입니다: " + window));
+        return postService.getHotPosts(hotWindow, size);
+    }
+
     @GetMapping("/{id}")
     public PostResponse getPost(@PathVariable Long id, @AuthenticationPrincipal MemberPrincipal principal) {
         return postService.readPost(id, principal);
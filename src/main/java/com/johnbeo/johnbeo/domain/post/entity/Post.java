@@ -21,6 +21,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
@@ -55,6 +56,27 @@ public class Post extends BaseEntity {
     @Builder.Default
     private long viewCount = 0L;
 
+    // Counters below are only written by relative UPDATE statements in PostRepository, never by entity flushes.
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long commentCount = 0L;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long bookmarkCount = 0L;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long upVoteCount = 0L;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long downVoteCount = 0L;
+
     public void updateContent(String title, String content) {
         this.title = title;
         this.content = content;
@@ -63,4 +85,8 @@ public class Post extends BaseEntity {
     public void incrementViewCount() {
         this.viewCount++;
     }
+
+    public long getVoteScore() {
+        return upVoteCount - downVoteCount;
+    }
 }
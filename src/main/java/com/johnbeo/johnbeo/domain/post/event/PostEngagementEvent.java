@@ -0,0 +1,14 @@
+package com.johnbeo.johnbeo.domain.post.event;
+
+import java.time.Instant;
+
+public record PostEngagementEvent(Long postId, Instant postCreatedAt, Kind kind, long delta) {
+
+    public enum Kind {
+        CREATED,
+        VIEW,
+        COMMENT,
+        VOTE,
+        DELETED
+    }
+}
@@ -0,0 +1,25 @@
+package com.johnbeo.johnbeo.domain.post.model;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum HotWindow {
+    HOUR("1h", Duration.ofHours(1), Duration.ofMinutes(20)),
+    DAY("24h", Duration.ofDays(1), Duration.ofHours(6)),
+    WEEK("7d", Duration.ofDays(7), Duration.ofHours(36));
+
+    private final String key;
+    private final Duration length;
+    private final Duration halfLife;
+
+    public static Optional<HotWindow> fromKey(String key) {
+        return Arrays.stream(values())
+            .filter(window -> window.key.equalsIgnoreCase(key))
+            .findFirst();
+    }
+}
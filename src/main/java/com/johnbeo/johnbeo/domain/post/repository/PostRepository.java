@@ -1,14 +1,18 @@
 package com.johnbeo.johnbeo.domain.post.repository;
 
+import com.johnbeo.johnbeo.domain.board.model.BoardType;
 import com.johnbeo.johnbeo.domain.post.entity.Post;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
@@ -22,8 +26,21 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @EntityGraph(attributePaths = {"author", "board"})
     Page<Post> findAll(Pageable pageable);
 
-    @EntityGraph(attributePaths = {"author", "board"})
-    Page<Post> findByBoard_Type(com.johnbeo.johnbeo.domain.board.model.BoardType type, Pageable pageable);
+    /**
+     * Latest {@code perBoard} posts of every board type in one round trip, ordered by board type and recency.
+     * Plain ROW_NUMBER() over a derived table, so it runs unchanged on MySQL 8 and H2.
+     */
+    @Query(value = "SELECT ranked.id AS id, ranked.title AS title, ranked.board_type AS boardType, "
+        + "ranked.board_name AS boardName, ranked.board_slug AS boardSlug, ranked.author_nickname AS authorNickname, "
+        + "ranked.created_at AS createdAt, ranked.view_count AS viewCount, ranked.comment_count AS commentCount, "
+        + "ranked.up_vote_count - ranked.down_vote_count AS voteScore "
+        + "FROM (SELECT p.id, p.title, p.created_at, p.view_count, p.comment_count, p.up_vote_count, "
+        + "p.down_vote_count, b.type AS board_type, b.name AS board_name, b.slug AS board_slug, "
+        + "m.nickname AS author_nickname, "
+        + "ROW_NUMBER() OVER (PARTITION BY b.type ORDER BY p.created_at DESC, p.id DESC) AS rn "
+        + "FROM posts p JOIN boards b ON b.id = p.board_id JOIN members m ON m.id = p.author_id) ranked "
+        + "WHERE ranked.rn <= :perBoard ORDER BY ranked.board_type, ranked.rn", nativeQuery = true)
+    List<BoardFeedRow> findLatestPerBoardType(@Param("perBoard") int perBoard);
 
     @EntityGraph(attributePaths = {"author", "board"})
     @Query("SELECT p FROM Post p WHERE p.createdAt >= :since ORDER BY p.viewCount DESC")
@@ -37,4 +54,108 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     @EntityGraph(attributePaths = {"board"})
     List<Post> findTop5ByAuthorIdOrderByCreatedAtDesc(Long authorId);
+
+    @EntityGraph(attributePaths = {"author", "board"})
+    List<Post> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT p.id AS id, p.createdAt AS createdAt, p.viewCount AS viewCount, p.commentCount AS commentCount, "
+        + "p.upVoteCount - p.downVoteCount AS voteScore FROM Post p WHERE p.createdAt >= :since ORDER BY p.createdAt DESC")
+    List<PostEngagement> findEngagementSince(@Param("since") Instant since, Pageable pageable);
+
+    @Query("SELECT p.bookmarkCount FROM Post p WHERE p.id = :postId")
+    Optional<Long> findBookmarkCount(@Param("postId") Long postId);
+
+    @Query("SELECT p.upVoteCount AS upVotes, p.downVoteCount AS downVotes FROM Post p WHERE p.id = :postId")
+    Optional<VoteTally> findVoteTally(@Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = comment_count + :delta WHERE id = :postId", nativeQuery = true)
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET bookmark_count = bookmark_count + :delta WHERE id = :postId", nativeQuery = true)
+    int addBookmarkCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET up_vote_count = up_vote_count + :upDelta, "
+        + "down_vote_count = down_vote_count + :downDelta WHERE id = :postId", nativeQuery = true)
+    int addVoteCounts(@Param("postId") Long postId, @Param("upDelta") long upDelta, @Param("downDelta") long downDelta);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = comment_count + :commentDelta, "
+        + "bookmark_count = bookmark_count + :bookmarkDelta, up_vote_count = up_vote_count + :upDelta, "
+        + "down_vote_count = down_vote_count + :downDelta WHERE id = :postId", nativeQuery = true)
+    int addCounters(
+        @Param("postId") Long postId,
+        @Param("commentDelta") long commentDelta,
+        @Param("bookmarkDelta") long bookmarkDelta,
+        @Param("upDelta") long upDelta,
+        @Param("downDelta") long downDelta
+    );
+
+    /**
+     * Difference between the recounted and the stored counters for a keyset batch of posts. Both sides come from
+     * one statement, so a write committed meanwhile is in neither and adding the drift back never loses it.
+     */
+    @Query(value = "SELECT p.id AS id, "
+        + "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id) - p.comment_count AS commentDrift, "
+        + "(SELECT COUNT(*) FROM bookmarks b WHERE b.post_id = p.id) - p.bookmark_count AS bookmarkDrift, "
+        + "(SELECT COUNT(*) FROM votes v WHERE v.target_type = 'POST' AND v.target_id = p.id AND v.vote_value > 0)"
+        + " - p.up_vote_count AS upVoteDrift, "
+        + "(SELECT COUNT(*) FROM votes v WHERE v.target_type = 'POST' AND v.target_id = p.id AND v.vote_value < 0)"
+        + " - p.down_vote_count AS downVoteDrift "
+        + "FROM posts p WHERE p.id > :afterId ORDER BY p.id LIMIT :batchSize", nativeQuery = true)
+    List<CounterDrift> findCounterDrift(@Param("afterId") long afterId, @Param("batchSize") int batchSize);
+
+    interface BoardFeedRow {
+        Long getId();
+
+        String getTitle();
+
+        BoardType getBoardType();
+
+        String getBoardName();
+
+        String getBoardSlug();
+
+        String getAuthorNickname();
+
+        Instant getCreatedAt();
+
+        long getViewCount();
+
+        long getCommentCount();
+
+        long getVoteScore();
+    }
+
+    interface PostEngagement {
+        Long getId();
+
+        Instant getCreatedAt();
+
+        long getViewCount();
+
+        long getCommentCount();
+
+        long getVoteScore();
+    }
+
+    interface VoteTally {
+        long getUpVotes();
+
+        long getDownVotes();
+    }
+
+    interface CounterDrift {
+        Long getId();
+
+        long getCommentDrift();
+
+        long getBookmarkDrift();
+
+        long getUpVoteDrift();
+
+        long getDownVoteDrift();
+    }
 }
@@ -0,0 +1,99 @@
+package com.johnbeo.johnbeo.domain.post.service;
+
+import com.johnbeo.johnbeo.domain.comment.repository.CommentRepository;
+import com.johnbeo.johnbeo.domain.post.config.EngagementCounterProperties;
+import com.johnbeo.johnbeo.domain.post.repository.PostRepository;
+import java.util.List;
+import java.util.function.LongFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Walks posts and comments in id order and adds back whatever the denormalized engagement counters have drifted
+ * from the underlying rows. Each batch runs in its own short transaction, and corrections are relative updates,
+ * so concurrent votes, comments and bookmarks are never overwritten.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EngagementCounterReconciler {
+
+    private final EngagementCounterProperties properties;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Scheduled(
+        initialDelayString = "${app.counters.initial-delay:PT10S}",
+        fixedDelayString = "${app.counters.reconcile-interval:PT30M}"
+    )
+    public void reconcile() {
+        if (!properties.isReconcileEnabled()) {
+            return;
+        }
+        try {
+            long posts = reconcilePosts();
+            long comments = reconcileComments();
+            if (posts > 0 || comments > 0) {
+                log.info("Corrected engagement counters on {} posts and {} comments", posts, comments);
+            }
+        } catch (Exception ex) {
+            log.warn("Engagement counter reconciliation failed", ex);
+        }
+    }
+
+    long reconcilePosts() {
+        return inBatches(afterId -> {
+            List<PostRepository.CounterDrift> drifts = postRepository.findCounterDrift(afterId, batchSize());
+            int corrected = 0;
+            for (PostRepository.CounterDrift drift : drifts) {
+                if (drift.getCommentDrift() != 0 || drift.getBookmarkDrift() != 0
+                    || drift.getUpVoteDrift() != 0 || drift.getDownVoteDrift() != 0) {
+                    postRepository.addCounters(drift.getId(), drift.getCommentDrift(), drift.getBookmarkDrift(),
+                        drift.getUpVoteDrift(), drift.getDownVoteDrift());
+                    corrected++;
+                }
+            }
+            return new Batch(drifts.isEmpty() ? afterId : drifts.get(drifts.size() - 1).getId(), drifts.size(), corrected);
+        });
+    }
+
+    long reconcileComments() {
+        return inBatches(afterId -> {
+            List<CommentRepository.VoteDrift> drifts = commentRepository.findVoteDrift(afterId, batchSize());
+            int corrected = 0;
+            for (CommentRepository.VoteDrift drift : drifts) {
+                if (drift.getUpVoteDrift() != 0 || drift.getDownVoteDrift() != 0) {
+                    commentRepository.addVoteCounts(drift.getId(), drift.getUpVoteDrift(), drift.getDownVoteDrift());
+                    corrected++;
+                }
+            }
+            return new Batch(drifts.isEmpty() ? afterId : drifts.get(drifts.size() - 1).getId(), drifts.size(), corrected);
+        });
+    }
+
+    private long inBatches(LongFunction<Batch> step) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long afterId = 0L;
+        long corrected = 0L;
+        Batch batch;
+        do {
+            long cursor = afterId;
+            batch = transaction.execute(status -> step.apply(cursor));
+            afterId = batch.lastId();
+            corrected += batch.corrected();
+        } while (batch.size() >= batchSize());
+        return corrected;
+    }
+
+    private int batchSize() {
+        return Math.max(properties.getBatchSize(), 1);
+    }
+
+    private record Batch(long lastId, int size, int corrected) {
+    }
+}
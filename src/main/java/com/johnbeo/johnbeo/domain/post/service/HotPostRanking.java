@@ -0,0 +1,124 @@
+package com.johnbeo.johnbeo.domain.post.service;
+
+import com.johnbeo.johnbeo.domain.post.config.HotRankingProperties;
+import com.johnbeo.johnbeo.domain.post.event.PostEngagementEvent;
+import com.johnbeo.johnbeo.domain.post.model.HotWindow;
+import com.johnbeo.johnbeo.domain.post.repository.PostRepository;
+import com.johnbeo.johnbeo.domain.post.service.support.HotScoreBoard;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory "hot" ranking for the 1h, 24h and 7d windows. Post creation, views, comments and votes are applied as
+ * weighted, time-decayed contributions when their transaction commits; the boards are seeded from recent posts at
+ * startup, where each post's existing engagement is counted as if it arrived halfway through its life. Votes and
+ * comments are tracked per post and kind, so retractions (un-votes, downvotes, deleted comments) take back what the
+ * retracted engagement is still worth after decay, never more than was added: toggling a vote cannot pump a post.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class HotPostRanking implements ApplicationRunner {
+
+    private final HotRankingProperties properties;
+    private final PostRepository postRepository;
+    private final Clock clock;
+    private final Map<HotWindow, HotScoreBoard> boards = new EnumMap<>(HotWindow.class);
+
+    public HotPostRanking(HotRankingProperties properties, PostRepository postRepository, Clock clock) {
+        this.properties = properties;
+        this.postRepository = postRepository;
+        this.clock = clock;
+        Instant now = clock.instant();
+        for (HotWindow window : HotWindow.values()) {
+            boards.put(window, new HotScoreBoard(window.getLength(), window.getHalfLife(), properties.getCapacity(), now));
+        }
+    }
+
+    public List<Long> topPostIds(HotWindow window, int limit) {
+        if (!properties.isEnabled()) {
+            return Collections.emptyList();
+        }
+        return boards.get(window).top(limit, clock.instant());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Instant now = clock.instant();
+        Instant since = now.minus(HotWindow.WEEK.getLength());
+        HotRankingProperties.Weights weights = properties.getWeights();
+        try {
+            List<PostRepository.PostEngagement> posts =
+                postRepository.findEngagementSince(since, PageRequest.of(0, properties.getCapacity()));
+            for (PostRepository.PostEngagement post : posts) {
+                Instant createdAt = post.getCreatedAt();
+                Instant midpoint = createdAt.plus(Duration.between(createdAt, now).dividedBy(2));
+                boards.values().forEach(board -> {
+                    board.add(post.getId(), createdAt, weights.getPost(), createdAt);
+                    board.add(post.getId(), createdAt, weights.getView() * post.getViewCount(), midpoint);
+                    board.add(post.getId(), createdAt, PostEngagementEvent.Kind.COMMENT.ordinal(),
+                        weights.getComment(), post.getCommentCount(), midpoint);
+                    board.add(post.getId(), createdAt, PostEngagementEvent.Kind.VOTE.ordinal(),
+                        weights.getVote(), Math.max(post.getVoteScore(), 0), midpoint);
+                });
+            }
+            log.info("Seeded hot ranking with {} recent posts", posts.size());
+        } catch (Exception ex) {
+            log.warn("Failed to seed hot ranking, it will fill from new activity", ex);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEngagement(PostEngagementEvent event) {
+        if (!properties.isEnabled() || event.postId() == null || event.postCreatedAt() == null) {
+            return;
+        }
+        if (event.kind() == PostEngagementEvent.Kind.DELETED) {
+            boards.values().forEach(board -> board.remove(event.postId()));
+            return;
+        }
+        int component = event.kind().ordinal();
+        if (event.delta() < 0) {
+            boards.values().forEach(board -> board.retract(event.postId(), component, -event.delta()));
+            return;
+        }
+        double weight = weightOf(event.kind());
+        Instant now = clock.instant();
+        boards.values().forEach(board ->
+            board.add(event.postId(), event.postCreatedAt(), component, weight, event.delta(), now));
+    }
+
+    @Scheduled(fixedDelayString = "${app.hot-ranking.redecay-interval:PT5M}")
+    public void redecay() {
+        Instant now = clock.instant();
+        boards.values().forEach(board -> board.rebase(now));
+    }
+
+    private double weightOf(PostEngagementEvent.Kind kind) {
+        HotRankingProperties.Weights weights = properties.getWeights();
+        return switch (kind) {
+            case CREATED -> weights.getPost();
+            case VIEW -> weights.getView();
+            case COMMENT -> weights.getComment();
+            case VOTE -> weights.getVote();
+            case DELETED -> 0.0;
+        };
+    }
+}
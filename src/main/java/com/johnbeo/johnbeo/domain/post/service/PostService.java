@@ -6,6 +6,7 @@ import com.johnbeo.johnbeo.domain.board.dto.BoardResponse;
 import com.johnbeo.johnbeo.domain.board.entity.Board;
 import com.johnbeo.johnbeo.domain.board.repository.BoardRepository;
 import com.johnbeo.johnbeo.domain.bookmark.service.BookmarkService;
+import com.johnbeo.johnbeo.domain.feed.event.HomeFeedChangedEvent;
 import com.johnbeo.johnbeo.domain.member.entity.Member;
 import com.johnbeo.johnbeo.domain.member.repository.MemberRepository;
 import com.johnbeo.johnbeo.domain.post.dto.CreatePostRequest;
@@ -14,11 +15,18 @@ import com.johnbeo.johnbeo.domain.post.dto.PostResponse;
 import com.johnbeo.johnbeo.domain.post.dto.PostSummaryResponse;
 import com.johnbeo.johnbeo.domain.post.dto.UpdatePostRequest;
 import com.johnbeo.johnbeo.domain.post.entity.Post;
+import com.johnbeo.johnbeo.domain.post.event.PostEngagementEvent;
+import com.johnbeo.johnbeo.domain.post.model.HotWindow;
 import com.johnbeo.johnbeo.domain.post.repository.PostRepository;
 import com.johnbeo.johnbeo.domain.post.service.support.PostViewTracker;
 import com.johnbeo.johnbeo.security.model.MemberPrincipal;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
@@ -30,11 +38,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class PostService {
 
+    private static final int MAX_HOT_POSTS = 50;
+
     private final PostRepository postRepository;
     private final BoardRepository boardRepository;
     private final MemberRepository memberRepository;
     private final BookmarkService bookmarkService;
     private final PostViewTracker postViewTracker;
+    private final HotPostRanking hotPostRanking;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PageResponse<PostSummaryResponse> getAllPosts(Pageable pageable) {
         Page<Post> page = postRepository.findAll(pageable);
@@ -48,6 +60,17 @@ public class PostService {
         return PageResponse.from(page.map(this::toPostSummaryResponse));
     }
 
+    public List<PostSummaryResponse> getHotPosts(HotWindow window, int size) {
+        List<Long> postIds = hotPostRanking.topPostIds(window, Math.min(Math.max(size, 1), MAX_HOT_POSTS));
+        Map<Long, Post> posts = postRepository.findByIdIn(postIds).stream()
+            .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return postIds.stream()
+            .map(posts::get)
+            .filter(Objects::nonNull)
+            .map(this::toPostSummaryResponse)
+            .toList();
+    }
+
     public PostResponse getPost(Long id) {
     Post post = findPost(id);
     return toPostResponse(post, null);
@@ -58,6 +81,8 @@ public class PostService {
         Post post = findPost(id);
         if (postViewTracker.shouldCountView(post.getId(), principal)) {
             post.incrementViewCount();
+            eventPublisher.publishEvent(
+                new PostEngagementEvent(post.getId(), post.getCreatedAt(), PostEngagementEvent.Kind.VIEW, 1));
         }
         return toPostResponse(post, principal);
     }
@@ -76,6 +101,9 @@ public class PostService {
             .build();
 
     Post saved = postRepository.save(post);
+    eventPublisher.publishEvent(new HomeFeedChangedEvent(saved.getId()));
+    eventPublisher.publishEvent(
+        new PostEngagementEvent(saved.getId(), saved.getCreatedAt(), PostEngagementEvent.Kind.CREATED, 1));
     return toPostResponse(saved, principal);
     }
 
@@ -84,6 +112,7 @@ public class PostService {
         Post post = findPost(id);
         validateOwnership(post, principal);
     post.updateContent(request.title(), request.content());
+    eventPublisher.publishEvent(new HomeFeedChangedEvent(post.getId()));
     return toPostResponse(post, principal);
     }
 
@@ -92,6 +121,9 @@ public class PostService {
         Post post = findPost(id);
         validateOwnership(post, principal);
         postRepository.delete(post);
+        eventPublisher.publishEvent(new HomeFeedChangedEvent(id));
+        eventPublisher.publishEvent(
+            new PostEngagementEvent(id, post.getCreatedAt(), PostEngagementEvent.Kind.DELETED, 0));
     }
 
     private Post findPost(Long id) {
@@ -115,7 +147,7 @@ public class PostService {
     }
 
     private PostResponse toPostResponse(Post post, MemberPrincipal principal) {
-        long bookmarkCount = bookmarkService.countByPost(post.getId());
+        long bookmarkCount = post.getBookmarkCount();
         boolean bookmarked = principal != null && bookmarkService.isBookmarked(principal.getId(), post.getId());
 
         var board = post.getBoard() != null ? toBoardResponse(post.getBoard()) : null;
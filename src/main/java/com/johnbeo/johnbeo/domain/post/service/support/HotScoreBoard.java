@@ -0,0 +1,220 @@
+package com.johnbeo.johnbeo.domain.post.service.support;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded ranking of exponentially decaying engagement scores for posts created within one window. Each
+ * contribution is stored pre-scaled by {@code e^(λ·(t − landmark))}, which keeps the order of two posts fixed as
+ * time passes: only new contributions move a post, so the ordered set never needs a full re-sort and the top K are
+ * its first K entries. {@link #rebase} moves the landmark forward to keep the stored values in range and drops
+ * posts that left the window; when the board is full the lowest entry is evicted.
+ *
+ * <p>Contributions added with a component are also kept per post and component together with how many units they
+ * hold, so {@link #retract} can take back the average unit of that component as it has decayed so far rather than
+ * at today's weight. A post therefore never gains from an add that is later retracted.
+ */
+public final class HotScoreBoard {
+
+    private static final Comparator<Entry> HOTTEST_FIRST = Comparator.comparingDouble(Entry::score).reversed()
+        .thenComparing(Comparator.comparingLong(Entry::postId).reversed());
+
+    private final Duration window;
+    private final double decayPerSecond;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> ranking = new TreeSet<>(HOTTEST_FIRST);
+    private final Map<Long, Ledger> ledgers = new HashMap<>();
+    private Instant landmark;
+
+    public HotScoreBoard(Duration window, Duration halfLife, int capacity, Instant landmark) {
+        this.window = window;
+        this.decayPerSecond = Math.log(2) / halfLife.toSeconds();
+        this.capacity = capacity;
+        this.landmark = landmark;
+    }
+
+    public void add(long postId, Instant createdAt, double weight, Instant at) {
+        lock.lock();
+        try {
+            if (!createdAt.isBefore(at.minus(window))) {
+                put(postId, createdAt, weight * growth(at));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void add(long postId, Instant createdAt, int component, double unitWeight, long units, Instant at) {
+        if (units <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (createdAt.isBefore(at.minus(window))) {
+                return;
+            }
+            double scaled = unitWeight * units * growth(at);
+            if (put(postId, createdAt, scaled)) {
+                ledgers.computeIfAbsent(postId, id -> new Ledger()).add(component, scaled, units);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void retract(long postId, int component, long units) {
+        if (units <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            Entry previous = entries.get(postId);
+            Ledger ledger = ledgers.get(postId);
+            if (previous == null || ledger == null) {
+                return;
+            }
+            double removed = ledger.retract(component, units);
+            if (removed > 0.0) {
+                ranking.remove(previous);
+                Entry entry = new Entry(postId, previous.createdAt(), Math.max(previous.score() - removed, 0.0));
+                entries.put(postId, entry);
+                ranking.add(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean put(long postId, Instant createdAt, double scaled) {
+        Entry previous = entries.get(postId);
+        double score = (previous != null ? previous.score() : 0.0) + scaled;
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        Entry entry = new Entry(postId, createdAt, score);
+        entries.put(postId, entry);
+        ranking.add(entry);
+        if (entries.size() > capacity) {
+            long evicted = ranking.pollLast().postId();
+            entries.remove(evicted);
+            ledgers.remove(evicted);
+            return evicted != postId;
+        }
+        return true;
+    }
+
+    public void remove(long postId) {
+        lock.lock();
+        try {
+            Entry entry = entries.remove(postId);
+            if (entry != null) {
+                ranking.remove(entry);
+            }
+            ledgers.remove(postId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<Long> top(int limit, Instant now) {
+        Instant oldest = now.minus(window);
+        List<Long> postIds = new ArrayList<>(Math.max(limit, 0));
+        lock.lock();
+        try {
+            for (Entry entry : ranking) {
+                if (postIds.size() >= limit) {
+                    break;
+                }
+                if (!entry.createdAt().isBefore(oldest)) {
+                    postIds.add(entry.postId());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return postIds;
+    }
+
+    public void rebase(Instant now) {
+        lock.lock();
+        try {
+            double factor = 1.0 / growth(now);
+            Instant oldest = now.minus(window);
+            List<Entry> kept = new ArrayList<>(entries.size());
+            for (Entry entry : ranking) {
+                if (!entry.createdAt().isBefore(oldest)) {
+                    kept.add(new Entry(entry.postId(), entry.createdAt(), entry.score() * factor));
+                }
+            }
+            entries.clear();
+            ranking.clear();
+            for (Entry entry : kept) {
+                entries.put(entry.postId(), entry);
+                ranking.add(entry);
+            }
+            ledgers.keySet().retainAll(entries.keySet());
+            ledgers.values().forEach(ledger -> ledger.scale(factor));
+            landmark = now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double growth(Instant at) {
+        return Math.exp(decayPerSecond * Duration.between(landmark, at).toMillis() / 1000.0);
+    }
+
+    private record Entry(long postId, Instant createdAt, double score) {
+    }
+
+    private static final class Ledger {
+
+        private double[] scaled = new double[0];
+        private long[] units = new long[0];
+
+        void add(int component, double value, long count) {
+            if (component >= scaled.length) {
+                scaled = Arrays.copyOf(scaled, component + 1);
+                units = Arrays.copyOf(units, component + 1);
+            }
+            scaled[component] += value;
+            units[component] += count;
+        }
+
+        double retract(int component, long count) {
+            if (component >= scaled.length || units[component] <= 0) {
+                return 0.0;
+            }
+            long taken = Math.min(count, units[component]);
+            double removed = taken == units[component] ? scaled[component] : scaled[component] * taken / units[component];
+            scaled[component] -= removed;
+            units[component] -= taken;
+            return removed;
+        }
+
+        void scale(double factor) {
+            for (int i = 0; i < scaled.length; i++) {
+                scaled[i] *= factor;
+            }
+        }
+    }
+}
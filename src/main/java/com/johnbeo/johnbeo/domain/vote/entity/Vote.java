@@ -11,6 +11,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -28,7 +29,8 @@ import lombok.NoArgsConstructor;
     uniqueConstraints = @UniqueConstraint(
         name = "uk_vote_member_target",
         columnNames = {"member_id", "target_id", "target_type"}
-    )
+    ),
+    indexes = @Index(name = "idx_vote_target", columnList = "target_type, target_id")
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
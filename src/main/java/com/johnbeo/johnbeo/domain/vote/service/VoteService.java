@@ -3,9 +3,11 @@ package com.johnbeo.johnbeo.domain.vote.service;
 import com.johnbeo.johnbeo.common.exception.ResourceNotFoundException;
 import com.johnbeo.johnbeo.domain.comment.entity.Comment;
 import com.johnbeo.johnbeo.domain.comment.repository.CommentRepository;
+import com.johnbeo.johnbeo.domain.feed.event.HomeFeedChangedEvent;
 import com.johnbeo.johnbeo.domain.member.entity.Member;
 import com.johnbeo.johnbeo.domain.member.repository.MemberRepository;
 import com.johnbeo.johnbeo.domain.post.entity.Post;
+import com.johnbeo.johnbeo.domain.post.event.PostEngagementEvent;
 import com.johnbeo.johnbeo.domain.post.repository.PostRepository;
 import com.johnbeo.johnbeo.domain.vote.dto.VoteSummaryResponse;
 import com.johnbeo.johnbeo.domain.vote.entity.Vote;
@@ -14,6 +16,7 @@ import com.johnbeo.johnbeo.domain.vote.repository.VoteRepository;
 import com.johnbeo.johnbeo.security.model.MemberPrincipal;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,13 +29,18 @@ public class VoteService {
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public VoteSummaryResponse votePost(Long postId, int value, MemberPrincipal principal) {
         Member member = requireMember(principal);
         Post post = postRepository.findById(postId)
             .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다: " + postId));
-        return applyVote(member, post.getId(), VoteTargetType.POST, value);
+        VoteOutcome outcome = applyVote(member, post.getId(), VoteTargetType.POST, value);
+        eventPublisher.publishEvent(new HomeFeedChangedEvent(post.getId()));
+        eventPublisher.publishEvent(new PostEngagementEvent(
+            post.getId(), post.getCreatedAt(), PostEngagementEvent.Kind.VOTE, outcome.scoreDelta()));
+        return outcome.summary();
     }
 
     @Transactional
@@ -40,7 +48,7 @@ public class VoteService {
         Member member = requireMember(principal);
         Comment comment = commentRepository.findById(commentId)
             .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다: " + commentId));
-        return applyVote(member, comment.getId(), VoteTargetType.COMMENT, value);
+        return applyVote(member, comment.getId(), VoteTargetType.COMMENT, value).summary();
     }
 
     @Transactional(readOnly = true)
@@ -59,12 +67,13 @@ public class VoteService {
         return createSummary(commentId, VoteTargetType.COMMENT, member);
     }
 
-    private VoteSummaryResponse applyVote(Member member, Long targetId, VoteTargetType targetType, int value) {
+    private VoteOutcome applyVote(Member member, Long targetId, VoteTargetType targetType, int value) {
         validateValue(value);
         Vote vote = voteRepository.findByMemberAndTargetIdAndTargetType(member, targetId, targetType)
             .orElse(null);
 
         boolean deleted = false;
+        long scoreDelta;
         if (vote == null) {
             Vote newVote = Vote.builder()
                 .member(member)
@@ -73,15 +82,27 @@ public class VoteService {
                 .value(value)
                 .build();
             voteRepository.save(newVote);
+            scoreDelta = addVoteCounts(targetId, targetType, value > 0 ? 1 : 0, value < 0 ? 1 : 0);
         } else if (Objects.equals(vote.getValue(), value)) {
             voteRepository.delete(vote);
+            scoreDelta = addVoteCounts(targetId, targetType, value > 0 ? -1 : 0, value < 0 ? -1 : 0);
             deleted = true;
         } else {
             vote.updateValue(value);
+            scoreDelta = addVoteCounts(targetId, targetType, value, -value);
         }
 
         Integer userVote = deleted ? null : value;
-        return createSummary(targetId, targetType, member, userVote);
+        return new VoteOutcome(createSummary(targetId, targetType, member, userVote), scoreDelta);
+    }
+
+    private long addVoteCounts(Long targetId, VoteTargetType targetType, long upDelta, long downDelta) {
+        if (targetType == VoteTargetType.POST) {
+            postRepository.addVoteCounts(targetId, upDelta, downDelta);
+        } else {
+            commentRepository.addVoteCounts(targetId, upDelta, downDelta);
+        }
+        return upDelta - downDelta;
     }
 
     private VoteSummaryResponse createSummary(Long targetId, VoteTargetType targetType, Member member) {
@@ -89,8 +110,19 @@ public class VoteService {
     }
 
     private VoteSummaryResponse createSummary(Long targetId, VoteTargetType targetType, Member member, Integer overrideUserVote) {
-        long upVotes = voteRepository.countByTargetIdAndTargetTypeAndValue(targetId, targetType, 1);
-        long downVotes = voteRepository.countByTargetIdAndTargetTypeAndValue(targetId, targetType, -1);
+        long upVotes;
+        long downVotes;
+        if (targetType == VoteTargetType.POST) {
+            PostRepository.VoteTally tally = postRepository.findVoteTally(targetId)
+                .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다: " + targetId));
+            upVotes = tally.getUpVotes();
+            downVotes = tally.getDownVotes();
+        } else {
+            CommentRepository.VoteTally tally = commentRepository.findVoteTally(targetId)
+                .orElseThrow(() -> new ResourceNotFoundException("댓글을 찾을 수 없습니다: " + targetId));
+            upVotes = tally.getUpVotes();
+            downVotes = tally.getDownVotes();
+        }
         Integer userVote = overrideUserVote;
         if (userVote == null && member != null) {
             userVote = voteRepository.findByMemberAndTargetIdAndTargetType(member, targetId, targetType)
@@ -121,4 +153,7 @@ public class VoteService {
         return memberRepository.findById(principal.getId())
             .orElseThrow(() -> new ResourceNotFoundException("회원 정보를 찾을 수 없습니다: " + principal.getId()));
     }
+
+    private record VoteOutcome(VoteSummaryResponse summary, long scoreDelta) {
+    }
 }
@@ -3,7 +3,9 @@ package com.johnbeo.johnbeo.domain.watchlist.service;
 import com.johnbeo.johnbeo.common.exception.ResourceAlreadyExistsException;
 import com.johnbeo.johnbeo.common.exception.ResourceNotFoundException;
 import com.johnbeo.johnbeo.cryptodata.dto.CoinMarketDto;
+import com.johnbeo.johnbeo.cryptodata.service.CoinCatalogService;
 import com.johnbeo.johnbeo.cryptodata.service.CryptoDataService;
+import com.johnbeo.johnbeo.cryptodata.service.support.RequestPriority;
 import com.johnbeo.johnbeo.domain.member.entity.Member;
 import com.johnbeo.johnbeo.domain.member.repository.MemberRepository;
 import com.johnbeo.johnbeo.domain.watchlist.config.WatchlistProperties;
@@ -22,7 +24,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -37,10 +38,12 @@ public class WatchlistService {
 
     private static final MathContext PREMIUM_MATH = new MathContext(6, RoundingMode.HALF_UP);
     private static final int MAX_ENTRIES = 20;
+    private static final List<String> QUOTE_CURRENCIES = List.of("usd", "krw");
 
     private final WatchlistEntryRepository watchlistEntryRepository;
     private final MemberRepository memberRepository;
     private final CryptoDataService cryptoDataService;
+    private final CoinCatalogService coinCatalogService;
     private final WatchlistProperties watchlistProperties;
 
     @Transactional(readOnly = true)
@@ -50,15 +53,13 @@ public class WatchlistService {
             return new WatchlistView(List.of(), source.usingDefault());
         }
 
-        Map<String, CoinMarketDto> usdMarkets = toMarketMap(
-            cryptoDataService.getMarketCoinsByIds(source.coinIds(), "usd"));
-        Map<String, CoinMarketDto> krwMarkets = toMarketMap(
-            cryptoDataService.getMarketCoinsByIds(source.coinIds(), "krw"));
+        Map<String, Map<String, CoinMarketDto>> quotes = cryptoDataService.getMarketQuotes(source.coinIds(), QUOTE_CURRENCIES);
 
         List<WatchlistItemResponse> items = new ArrayList<>();
         for (String coinId : source.coinIds()) {
-            CoinMarketDto usd = usdMarkets.get(coinId);
-            CoinMarketDto krw = krwMarkets.get(coinId);
+            Map<String, CoinMarketDto> quote = quotes.getOrDefault(coinId, Map.of());
+            CoinMarketDto usd = quote.get("usd");
+            CoinMarketDto krw = quote.get("krw");
             if (usd == null && krw == null) {
                 continue;
             }
@@ -124,9 +125,7 @@ public class WatchlistService {
             throw new ResourceAlreadyExistsException("Coin already exists in watchlist");
         }
 
-        // Validate coin by attempting to load market info
-        List<CoinMarketDto> validation = cryptoDataService.getMarketCoinsByIds(List.of(normalizedCoinId), "usd");
-        if (validation == null || validation.isEmpty()) {
+        if (!isKnownCoin(normalizedCoinId)) {
             throw new ResourceNotFoundException("Invalid coin id: " + normalizedCoinId);
         }
 
@@ -147,6 +146,16 @@ public class WatchlistService {
         watchlistEntryRepository.delete(entry);
     }
 
+    private boolean isKnownCoin(String coinId) {
+        if (coinCatalogService.isLoaded()) {
+            return coinCatalogService.contains(coinId);
+        }
+        // Catalog not loaded yet, fall back to asking CoinGecko
+        List<CoinMarketDto> validation = RequestPriority.VALIDATION.call(
+            () -> cryptoDataService.getMarketCoinsByIds(List.of(coinId), "usd"));
+        return validation != null && !validation.isEmpty();
+    }
+
     private WatchlistSource resolveSource(MemberPrincipal principal) {
         if (principal == null) {
             return WatchlistSource.fromDefaults(watchlistProperties.defaultCoinIds());
@@ -171,20 +180,6 @@ public class WatchlistService {
         return WatchlistSource.fromCustom(coinIds, labels);
     }
 
-    private Map<String, CoinMarketDto> toMarketMap(List<CoinMarketDto> markets) {
-        if (markets == null) {
-            return Map.of();
-        }
-        return markets.stream()
-            .filter(Objects::nonNull)
-            .collect(Collectors.toMap(
-                dto -> normalizeCoinId(dto.id()),
-                dto -> dto,
-                (existing, ignored) -> existing,
-                LinkedHashMap::new
-            ));
-    }
-
     private BigDecimal computePremium(BigDecimal priceUsd, BigDecimal priceKrw) {
         if (priceUsd == null || priceUsd.signum() <= 0 || priceKrw == null || priceKrw.signum() <= 0) {
             return null;
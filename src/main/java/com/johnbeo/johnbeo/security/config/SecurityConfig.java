@@ -51,6 +51,7 @@ public class SecurityConfig {
                 .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/posts/**", "/api/boards/**", "/api/coins/**").permitAll()
                 .requestMatchers(org.springframework.http.HttpMethod.GET, "/market", "/coins/**").permitAll()
                 .requestMatchers(org.springframework.http.HttpMethod.GET, "/posts/**", "/boards/**").permitAll()
+                .requestMatchers(org.springframework.http.HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
                 .anyRequest().authenticated())
             .headers(headers -> headers.frameOptions(frame -> frame.sameOrigin()))
             .authenticationProvider(daoAuthenticationProvider())
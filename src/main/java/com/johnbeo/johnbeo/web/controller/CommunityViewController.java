@@ -10,7 +10,7 @@ import com.johnbeo.johnbeo.domain.board.service.BoardService;
 import com.johnbeo.johnbeo.domain.comment.dto.CommentResponse;
 import com.johnbeo.johnbeo.domain.comment.service.CommentService;
 import com.johnbeo.johnbeo.domain.feed.dto.HomeFeedDto;
-import com.johnbeo.johnbeo.domain.feed.service.HomeFeedService;
+import com.johnbeo.johnbeo.domain.feed.service.HomeFeedSnapshot;
 import com.johnbeo.johnbeo.domain.notice.service.NoticeService;
 import com.johnbeo.johnbeo.domain.post.dto.PostResponse;
 import com.johnbeo.johnbeo.domain.post.dto.PostSummaryResponse;
@@ -40,7 +40,8 @@ import com.johnbeo.johnbeo.security.model.MemberPrincipal;
 @RequiredArgsConstructor
 public class CommunityViewController {
 
-    private static final int MARKET_PREVIEW_SIZE = 6;
+    public static final int MARKET_PREVIEW_SIZE = 6;
+    public static final int NOTICE_PREVIEW_SIZE = 5;
 
     private final BoardService boardService;
     private final PostService postService;
@@ -48,7 +49,7 @@ public class CommunityViewController {
     private final VoteService voteService;
     private final CryptoDataService cryptoDataService;
     private final CoinGeckoProperties coinGeckoProperties;
-    private final HomeFeedService homeFeedService;
+    private final HomeFeedSnapshot homeFeedSnapshot;
     private final NoticeService noticeService;
     private final WatchlistService watchlistService;
 
@@ -56,7 +57,7 @@ public class CommunityViewController {
     public String home(@AuthenticationPrincipal MemberPrincipal principal, Model model) {
         List<CoinMarketDto> markets = fetchMarketSnapshot();
         List<BoardResponse> boards = boardService.getBoards();
-        HomeFeedDto homeFeed = homeFeedService.loadHomeFeed();
+        HomeFeedDto homeFeed = homeFeedSnapshot.current();
         WatchlistView watchlist = watchlistService.loadWatchlist(principal);
         model.addAttribute("pageTitle", "존비오 코인 커뮤니티");
         model.addAttribute("coins", markets);
@@ -64,7 +65,7 @@ public class CommunityViewController {
         model.addAttribute("watchlist", watchlist);
         model.addAttribute("boardTypeLabels", boardTypeLabels());
         model.addAttribute("boardEntrypoints", buildBoardEntrypoints(boards));
-        model.addAttribute("notices", noticeService.getActiveNotices(5));
+        model.addAttribute("notices", noticeService.getActiveNotices(NOTICE_PREVIEW_SIZE));
         model.addAttribute("homeFeed", homeFeed);
         model.addAttribute("trendingPosts", homeFeed.trending());
         model.addAttribute("freshPosts", homeFeed.fresh());
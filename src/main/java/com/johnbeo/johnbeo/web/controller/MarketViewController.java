@@ -1,13 +1,14 @@
 package com.johnbeo.johnbeo.web.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
 import com.johnbeo.johnbeo.cryptodata.config.TradingViewProperties;
 import com.johnbeo.johnbeo.cryptodata.dto.CoinDetailDto;
 import com.johnbeo.johnbeo.cryptodata.dto.CoinMarketDto;
 import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
 import com.johnbeo.johnbeo.cryptodata.service.CryptoDataService;
+import com.johnbeo.johnbeo.cryptodata.service.support.ChartDownsampler;
+import com.johnbeo.johnbeo.cryptodata.service.support.EncodedResponseCache;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,9 +26,10 @@ public class MarketViewController {
     private final CryptoDataService cryptoDataService;
     private final CoinGeckoProperties properties;
     private final TradingViewProperties tradingViewProperties;
-    private final ObjectMapper objectMapper;
+    private final EncodedResponseCache encodedResponseCache;
 
     private static final int DEFAULT_DAYS = 30;
+    private static final int DEFAULT_CHART_POINTS = 720;
 
     @GetMapping("/market")
     public String market(
@@ -44,6 +46,7 @@ public class MarketViewController {
         model.addAttribute("page", page);
         model.addAttribute("size", perPage);
         model.addAttribute("vsCurrency", currency.toUpperCase());
+        model.addAttribute("streamCurrency", currency);
         return "market/list";
     }
 
@@ -52,20 +55,22 @@ public class MarketViewController {
         @PathVariable String coinId,
         @RequestParam(required = false, name = "vs_currency") String vsCurrency,
         @RequestParam(required = false, defaultValue = "30") int days,
+        @RequestParam(required = false) Integer maxPoints,
         Model model
     ) {
         String currency = resolveCurrency(vsCurrency, properties.getMarket().getVsCurrency());
         int resolvedDays = days > 0 ? days : DEFAULT_DAYS;
         CoinDetailDto detail = cryptoDataService.getCoinDetail(coinId, currency);
         String tradingViewSymbol = resolveTradingViewSymbol(detail);
+        int chartPoints = ChartDownsampler.bucketPoints(maxPoints != null ? maxPoints : DEFAULT_CHART_POINTS);
         MarketChartDto chart = tradingViewSymbol == null
-            ? cryptoDataService.getMarketChart(coinId, resolvedDays, currency)
+            ? cryptoDataService.getMarketChart(coinId, resolvedDays, currency, chartPoints)
             : null;
         model.addAttribute("pageTitle", detail.name() + " 시세");
         model.addAttribute("coin", detail);
         model.addAttribute("vsCurrency", currency.toUpperCase());
         model.addAttribute("days", resolvedDays);
-        model.addAttribute("chartData", chart != null ? toJson(chart) : "{}");
+        model.addAttribute("chartData", toJson("chart:" + coinId + ':' + resolvedDays + ':' + currency + ':' + chartPoints, chart));
         model.addAttribute("tradingViewSymbol", tradingViewSymbol);
         return "coins/detail";
     }
@@ -82,13 +87,14 @@ public class MarketViewController {
         return fallback != null ? fallback.toLowerCase() : "usd";
     }
 
-    private String toJson(Object value) {
-        if (value == null) {
+    private String toJson(String endpointKey, MarketChartDto chart) {
+        if (chart == null) {
             return "{}";
         }
         try {
-            return objectMapper.writeValueAsString(value);
-        } catch (JsonProcessingException ex) {
+            byte[] json = encodedResponseCache.encode(endpointKey, chart.contentVersion(), chart).json();
+            return new String(json, StandardCharsets.UTF_8);
+        } catch (IllegalStateException ex) {
             log.warn("Failed to serialize chart data", ex);
             return "{}";
         }
@@ -0,0 +1,105 @@
+package com.johnbeo.johnbeo.web.warmup;
+
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import com.johnbeo.johnbeo.cryptodata.service.CryptoDataService;
+import com.johnbeo.johnbeo.domain.board.service.BoardService;
+import com.johnbeo.johnbeo.domain.feed.service.HomeFeedSnapshot;
+import com.johnbeo.johnbeo.domain.notice.service.NoticeService;
+import com.johnbeo.johnbeo.domain.watchlist.service.WatchlistService;
+import com.johnbeo.johnbeo.web.controller.CommunityViewController;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads what the home page needs before the instance reports ready. Runners finish before Spring Boot flips
+ * readiness to accepting traffic, and {@link WarmupHealthIndicator} keeps the readiness group down until the
+ * report is in. Tasks run concurrently within {@code app.warmup.timeout}; a failed or slow task only leaves its
+ * cache cold.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeWarmupRunner implements ApplicationRunner {
+
+    private final WarmupProperties properties;
+    private final CoinGeckoProperties coinGeckoProperties;
+    private final CryptoDataService cryptoDataService;
+    private final WatchlistService watchlistService;
+    private final BoardService boardService;
+    private final NoticeService noticeService;
+    private final HomeFeedSnapshot homeFeedSnapshot;
+    private final Clock clock;
+    private final @Qualifier("applicationTaskExecutor") Executor applicationTaskExecutor;
+
+    private volatile WarmupReport report;
+
+    public Optional<WarmupReport> report() {
+        return Optional.ofNullable(report);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            report = WarmupReport.skipped();
+            return;
+        }
+        Instant started = clock.instant();
+        Map<String, CompletableFuture<Void>> tasks = new LinkedHashMap<>();
+        submit(tasks, "markets", () -> cryptoDataService.getMarketCoins(
+            CommunityViewController.MARKET_PREVIEW_SIZE, 1, coinGeckoProperties.getMarket().getVsCurrency()));
+        submit(tasks, "watchlist", () -> watchlistService.loadWatchlist(null));
+        submit(tasks, "boards", boardService::getBoards);
+        submit(tasks, "notices", () -> noticeService.getActiveNotices(CommunityViewController.NOTICE_PREVIEW_SIZE));
+        submit(tasks, "homeFeed", homeFeedSnapshot::current);
+
+        await(tasks, properties.getTimeout());
+        Map<String, WarmupReport.Outcome> outcomes = new LinkedHashMap<>();
+        tasks.forEach((name, task) -> outcomes.put(name, outcomeOf(task)));
+        report = new WarmupReport(Duration.between(started, clock.instant()), outcomes);
+        log.info("Warm-up finished in {} ms: {}", report.took().toMillis(), outcomes);
+    }
+
+    private void submit(Map<String, CompletableFuture<Void>> tasks, String name, Runnable task) {
+        tasks.put(name, CompletableFuture.runAsync(task, applicationTaskExecutor)
+            .whenComplete((ignored, ex) -> {
+                if (ex != null) {
+                    log.warn("Warm-up task [{}] failed, serving it cold", name, ex);
+                }
+            }));
+    }
+
+    private void await(Map<String, CompletableFuture<Void>> tasks, Duration timeout) {
+        try {
+            CompletableFuture.allOf(tasks.values().toArray(CompletableFuture[]::new))
+                .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            log.warn("Warm-up exceeded {}, serving the remaining caches cold", timeout);
+        } catch (ExecutionException ex) {
+            // already logged per task
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private WarmupReport.Outcome outcomeOf(CompletableFuture<Void> task) {
+        if (!task.isDone()) {
+            return WarmupReport.Outcome.TIMED_OUT;
+        }
+        return task.isCompletedExceptionally() ? WarmupReport.Outcome.FAILED : WarmupReport.Outcome.LOADED;
+    }
+}
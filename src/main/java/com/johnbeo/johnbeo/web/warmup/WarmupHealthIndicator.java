@@ -0,0 +1,23 @@
+package com.johnbeo.johnbeo.web.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final HomeWarmupRunner homeWarmupRunner;
+
+    @Override
+    public Health health() {
+        return homeWarmupRunner.report()
+            .map(report -> Health.up()
+                .withDetail("took", report.took().toString())
+                .withDetail("tasks", report.tasks())
+                .build())
+            .orElseGet(() -> Health.outOfService().withDetail("reason", "warming up").build());
+    }
+}
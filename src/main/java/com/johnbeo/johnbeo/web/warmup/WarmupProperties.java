@@ -0,0 +1,15 @@
+package com.johnbeo.johnbeo.web.warmup;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+    private Duration timeout = Duration.ofSeconds(15);
+}
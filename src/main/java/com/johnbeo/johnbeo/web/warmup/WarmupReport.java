@@ -0,0 +1,21 @@
+package com.johnbeo.johnbeo.web.warmup;
+
+import java.time.Duration;
+import java.util.Map;
+
+public record WarmupReport(Duration took, Map<String, Outcome> tasks) {
+
+    public WarmupReport {
+        tasks = Map.copyOf(tasks);
+    }
+
+    public static WarmupReport skipped() {
+        return new WarmupReport(Duration.ZERO, Map.of());
+    }
+
+    public enum Outcome {
+        LOADED,
+        FAILED,
+        TIMED_OUT
+    }
+}
@@ -0,0 +1,29 @@
+-- Denormalized engagement counters (posts, comments) and the votes index used to recount them.
+-- Applied by hand, not by a migration tool. Production runs with ddl-auto=validate: apply this before deploying
+-- the build that maps these columns, or startup stops at EngagementCounterSchemaCheck.
+
+ALTER TABLE posts
+    ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN bookmark_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN up_vote_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN down_vote_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE comments
+    ADD COLUMN up_vote_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN down_vote_count BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_vote_target ON votes (target_type, target_id);
+
+UPDATE posts p
+SET p.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id),
+    p.bookmark_count = (SELECT COUNT(*) FROM bookmarks b WHERE b.post_id = p.id),
+    p.up_vote_count = (SELECT COUNT(*) FROM votes v
+                       WHERE v.target_type = 'POST' AND v.target_id = p.id AND v.vote_value > 0),
+    p.down_vote_count = (SELECT COUNT(*) FROM votes v
+                         WHERE v.target_type = 'POST' AND v.target_id = p.id AND v.vote_value < 0);
+
+UPDATE comments c
+SET c.up_vote_count = (SELECT COUNT(*) FROM votes v
+                       WHERE v.target_type = 'COMMENT' AND v.target_id = c.id AND v.vote_value > 0),
+    c.down_vote_count = (SELECT COUNT(*) FROM votes v
+                         WHERE v.target_type = 'COMMENT' AND v.target_id = c.id AND v.vote_value < 0);
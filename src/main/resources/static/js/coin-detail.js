@@ -267,7 +267,8 @@
 
     async function fetchChart(days) {
       try {
-        const response = await fetch(`/api/coins/${coinIdInput}/market-chart?days=${days}&vs_currency=${currency}`);
+        const maxPoints = Math.max(120, Math.round(canvas.clientWidth || 720));
+        const response = await fetch(`/api/coins/${coinIdInput}/market-chart?days=${days}&vs_currency=${currency}&maxPoints=${maxPoints}`);
         if (!response.ok) {
           throw new Error(`Failed to fetch chart data (${response.status})`);
         }
@@ -0,0 +1,46 @@
+(function () {
+  const script = document.currentScript;
+  const input = script && document.getElementById(script.dataset.input);
+  const list = script && document.getElementById(script.dataset.list);
+  if (!input || !list) {
+    return;
+  }
+
+  const DEBOUNCE_MS = 120;
+  let timer = null;
+  let controller = null;
+
+  input.addEventListener('input', () => {
+    clearTimeout(timer);
+    timer = setTimeout(search, DEBOUNCE_MS);
+  });
+
+  function search() {
+    const query = input.value.trim();
+    if (!query) {
+      list.replaceChildren();
+      return;
+    }
+    if (controller) {
+      controller.abort();
+    }
+    controller = new AbortController();
+    fetch(`/api/coins/search?q=${encodeURIComponent(query)}&limit=10`, { signal: controller.signal })
+      .then((response) => (response.ok ? response.json() : []))
+      .then(render)
+      .catch((error) => {
+        if (error.name !== 'AbortError') {
+          console.warn('코인 검색에 실패했습니다.', error);
+        }
+      });
+  }
+
+  function render(coins) {
+    list.replaceChildren(...coins.map((coin) => {
+      const option = document.createElement('option');
+      option.value = coin.id;
+      option.label = `${coin.name} (${(coin.symbol || '').toUpperCase()})`;
+      return option;
+    }));
+  }
+})();
@@ -0,0 +1,60 @@
+(function () {
+  const script = document.currentScript;
+  if (!script || typeof EventSource === 'undefined') {
+    return;
+  }
+
+  const { ids, currencies } = script.dataset;
+  const cells = document.querySelectorAll('[data-stream-coin]');
+  if (!cells.length) {
+    return;
+  }
+
+  const params = new URLSearchParams();
+  if (ids) {
+    params.set('ids', ids);
+  }
+  if (currencies) {
+    params.set('vs_currency', currencies);
+  }
+
+  const source = new EventSource(`/api/coins/stream?${params.toString()}`);
+  source.addEventListener('snapshot', applyEvent);
+  source.addEventListener('update', applyEvent);
+  window.addEventListener('beforeunload', () => source.close());
+
+  function applyEvent(message) {
+    let event;
+    try {
+      event = JSON.parse(message.data);
+    } catch (error) {
+      console.warn('시세 스트림 데이터를 해석하지 못했습니다.', error);
+      return;
+    }
+    (event.changes || []).forEach((change) => {
+      if (change.price != null) {
+        updateCells(change.coinId, event.currency, 'price', change.price);
+      }
+      if (change.change24h != null) {
+        updateCells(change.coinId, event.currency, 'change', change.change24h);
+      }
+    });
+  }
+
+  function updateCells(coinId, currency, field, value) {
+    const streamCurrency = String(currency || '').toLowerCase();
+    const selector = `[data-stream-coin="${coinId}"][data-stream-currency="${streamCurrency}"][data-stream-field="${field}"]`;
+    document.querySelectorAll(selector).forEach((cell) => {
+      const fractionDigits = Number(cell.dataset.streamDecimals || 2);
+      const formatted = Number(value).toLocaleString('en-US', {
+        minimumFractionDigits: fractionDigits,
+        maximumFractionDigits: fractionDigits,
+      });
+      cell.textContent = `${cell.dataset.streamPrefix || ''}${formatted}${cell.dataset.streamSuffix || ''}`;
+      if (field === 'change') {
+        cell.classList.toggle('is-up', Number(value) >= 0);
+        cell.classList.toggle('is-down', Number(value) < 0);
+      }
+    });
+  }
+})();
@@ -0,0 +1,51 @@
+package com.johnbeo.johnbeo.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
+import com.johnbeo.johnbeo.cryptodata.dto.MarketChartPoint;
+import com.johnbeo.johnbeo.cryptodata.dto.SimplePriceDto;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PayloadSizeEstimatorTest {
+
+    @Test
+    void chartWeighsProportionallyToItsPoints() {
+        long small = PayloadSizeEstimator.estimate(chartOf(24));
+        long large = PayloadSizeEstimator.estimate(chartOf(24 * 365));
+
+        assertThat(large).isGreaterThan(small * 300);
+        assertThat(large).isGreaterThan(24L * 365 * 3 * (Long.BYTES + Double.BYTES));
+    }
+
+    @Test
+    void columnarChartWeighsSeveralTimesLessThanPointLists() {
+        MarketChartDto chart = chartOf(24 * 365);
+        List<MarketChartPoint> points = new ArrayList<>(chart.prices());
+
+        long columnar = PayloadSizeEstimator.estimate(chart);
+        long boxed = PayloadSizeEstimator.estimate(List.of(points, points, points));
+
+        assertThat(columnar * 4).isLessThan(boxed);
+    }
+
+    @Test
+    void simplePriceWeighsFarLessThanChart() {
+        Map<String, SimplePriceDto> prices = Map.of("bitcoin", new SimplePriceDto(BigDecimal.valueOf(65000), BigDecimal.ONE));
+
+        assertThat(PayloadSizeEstimator.estimate(prices)).isLessThan(PayloadSizeEstimator.estimate(chartOf(24)));
+        assertThat(PayloadSizeEstimator.weigh("bitcoin:usd", prices)).isPositive();
+    }
+
+    private MarketChartDto chartOf(int points) {
+        List<MarketChartPoint> series = new ArrayList<>(points);
+        for (int i = 0; i < points; i++) {
+            series.add(new MarketChartPoint(1_700_000_000_000L + i * 3_600_000L, BigDecimal.valueOf(40000.5 + i)));
+        }
+        return new MarketChartDto(series, series, series);
+    }
+}
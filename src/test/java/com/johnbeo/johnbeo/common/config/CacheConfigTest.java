@@ -0,0 +1,27 @@
+package com.johnbeo.johnbeo.common.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.unit.DataSize;
+
+class CacheConfigTest {
+
+    @Test
+    void onlyCachesWithAPolicyExistAndTheyShareTheBudget() {
+        CacheProperties properties = new CacheProperties();
+        properties.setMaxHeap(DataSize.ofMegabytes(8));
+        properties.getPolicies().put("coins.market", new CacheProperties.Policy(Duration.ofMinutes(1), null, null));
+        properties.getPolicies().put("coins.detail",
+            new CacheProperties.Policy(null, null, DataSize.ofMegabytes(4)));
+
+        CacheManager cacheManager = new CacheConfig(properties).cacheManager();
+
+        assertThat(properties.totalMaxWeightBytes()).isEqualTo(DataSize.ofMegabytes(8).toBytes());
+        assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder("coins.market", "coins.detail");
+        assertThat(cacheManager.getCache("coins.market")).isNotNull();
+        assertThat(cacheManager.getCache("coins.unconfigured")).isNull();
+    }
+}
@@ -5,9 +5,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.johnbeo.johnbeo.cryptodata.dto.CoinMarketDto;
 import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
 import com.johnbeo.johnbeo.cryptodata.dto.MarketChartPoint;
+import com.johnbeo.johnbeo.cryptodata.dto.SimplePriceDto;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -94,4 +96,41 @@ class CryptoDataServiceTest {
         assertThat(point.timestamp()).isEqualTo(1700000000000L);
         assertThat(point.value()).isEqualByComparingTo(BigDecimal.valueOf(40000.0));
     }
+
+    @Test
+    void getMarketChartAsync_servesRepeatReadsFromCache() {
+        String body = "{\n" +
+            "  \"prices\": [[1700000000000, 41000.0], [1700003600000, 41500.0]],\n" +
+            "  \"market_caps\": [[1700000000000, 710000000000.0]],\n" +
+            "  \"total_volumes\": [[1700000000000, 26000000000.0]]\n" +
+            "}";
+        mockWebServer.enqueue(new MockResponse()
+            .setBody(body)
+            .addHeader("Content-Type", "application/json"));
+        int requestsBefore = mockWebServer.getRequestCount();
+
+        MarketChartDto first = cryptoDataService.getMarketChartAsync("ethereum", 7, "usd").block();
+        MarketChartDto second = cryptoDataService.getMarketChartAsync("ethereum", 7, "usd").block();
+
+        assertThat(first).isNotNull();
+        assertThat(first.prices()).hasSize(2);
+        assertThat(second).isEqualTo(first);
+        assertThat(mockWebServer.getRequestCount() - requestsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void getSimplePrices_keepsCallerKeysAndRemembersUnknownIds() {
+        mockWebServer.enqueue(new MockResponse()
+            .setBody("{\"solana\": {\"usd\": 150.0, \"usd_24h_change\": 2.5}}")
+            .addHeader("Content-Type", "application/json"));
+        int before = mockWebServer.getRequestCount();
+
+        Map<String, SimplePriceDto> prices = cryptoDataService.getSimplePrices(List.of("Solana", "not-a-coin"), "usd");
+        Map<String, SimplePriceDto> again = cryptoDataService.getSimplePrices(List.of("NOT-A-COIN"), "usd");
+
+        assertThat(prices).containsOnlyKeys("Solana");
+        assertThat(prices.get("Solana").price()).isEqualByComparingTo("150.0");
+        assertThat(again).isEmpty();
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(before + 1);
+    }
 }
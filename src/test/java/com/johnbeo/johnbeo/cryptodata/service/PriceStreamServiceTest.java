@@ -0,0 +1,106 @@
+package com.johnbeo.johnbeo.cryptodata.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.johnbeo.johnbeo.cryptodata.dto.PriceChange;
+import com.johnbeo.johnbeo.cryptodata.dto.PriceStreamEvent;
+import com.johnbeo.johnbeo.cryptodata.service.support.MarketColumns;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+class PriceStreamServiceTest {
+
+    private final PriceStreamService service = new PriceStreamService();
+
+    @Test
+    void newSubscribersGetAFilteredSnapshotThenOnlyChangedFields() {
+        service.publish("usd", markets(50_000, 1.5, 3_000, -0.5));
+
+        List<PriceStreamEvent> events = service.subscribe(List.of("bitcoin"), List.of("usd"), null)
+            .doOnSubscribe(subscription -> service.publish("usd", markets(50_100, 1.5, 3_010, -0.4)))
+            .take(2)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(events).hasSize(2);
+        PriceStreamEvent snapshot = events.get(0);
+        assertThat(snapshot.type()).isEqualTo(PriceStreamEvent.Type.SNAPSHOT);
+        assertThat(snapshot.changes()).extracting(PriceChange::coinId).containsExactly("bitcoin");
+        PriceStreamEvent update = events.get(1);
+        assertThat(update.sequence()).isEqualTo(2);
+        assertThat(update.changes()).hasSize(1);
+        assertThat(update.changes().get(0).price()).isEqualByComparingTo("50100");
+        assertThat(update.changes().get(0).change24h()).isNull();
+    }
+
+    @Test
+    void reconnectWithLastEventIdReplaysOnlyMissedUpdates() {
+        service.publish("usd", markets(50_000, 1.5, 3_000, -0.5));
+        service.publish("usd", markets(50_100, 1.5, 3_000, -0.5));
+        service.publish("usd", markets(50_200, 1.5, 3_000, -0.5));
+
+        String firstId = service.eventId(new PriceStreamEvent(1, PriceStreamEvent.Type.UPDATE, "usd", List.of()));
+
+        List<PriceStreamEvent> events = service.subscribe(null, null, firstId)
+            .take(2)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(events).extracting(PriceStreamEvent::sequence).containsExactly(2L, 3L);
+        assertThat(events).allSatisfy(event -> assertThat(event.type()).isEqualTo(PriceStreamEvent.Type.UPDATE));
+    }
+
+    @Test
+    void lastEventIdFromAnotherProcessGetsASnapshot() {
+        service.publish("usd", markets(50_000, 1.5, 3_000, -0.5));
+        service.publish("usd", markets(50_100, 1.5, 3_000, -0.5));
+
+        PriceStreamEvent first = service.subscribe(null, null, "restarted-1")
+            .blockFirst(Duration.ofSeconds(5));
+
+        assertThat(first.type()).isEqualTo(PriceStreamEvent.Type.SNAPSHOT);
+        assertThat(first.sequence()).isEqualTo(2);
+    }
+
+    @Test
+    void subscriberThatFallsBehindItsBufferGetsASnapshotInsteadOfAGap() {
+        service.publish("usd", markets(50_000, 1.5, 3_000, -0.5));
+        List<PriceStreamEvent> events = new CopyOnWriteArrayList<>();
+        BaseSubscriber<PriceStreamEvent> slow = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+
+            @Override
+            protected void hookOnNext(PriceStreamEvent event) {
+                events.add(event);
+            }
+        };
+        service.subscribe(null, List.of("usd"), null).subscribe(slow);
+
+        for (int i = 1; i <= 100; i++) {
+            service.publish("usd", markets(50_000 + i, 1.5, 3_000, -0.5));
+        }
+        slow.request(Long.MAX_VALUE);
+        slow.dispose();
+
+        assertThat(events).hasSizeLessThanOrEqualTo(3);
+        PriceStreamEvent last = events.get(events.size() - 1);
+        assertThat(last.type()).isEqualTo(PriceStreamEvent.Type.SNAPSHOT);
+        assertThat(last.sequence()).isEqualTo(101);
+        assertThat(last.changes()).anySatisfy(change ->
+            assertThat(change.price()).isEqualByComparingTo("50100"));
+    }
+
+    private MarketColumns markets(double bitcoin, double bitcoinChange, double ethereum, double ethereumChange) {
+        return new MarketColumns.Builder(2)
+            .add("bitcoin", "btc", "Bitcoin", null, bitcoin, Double.NaN, Double.NaN, bitcoinChange)
+            .add("ethereum", "eth", "Ethereum", null, ethereum, Double.NaN, Double.NaN, ethereumChange)
+            .build();
+    }
+}
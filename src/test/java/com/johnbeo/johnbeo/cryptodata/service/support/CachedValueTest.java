@@ -0,0 +1,33 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class CachedValueTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-06T12:00:00Z");
+
+    @Test
+    void equalRefreshKeepsVersionAndLastModified() {
+        CachedValue<String> first = new CachedValue<>("bitcoin", NOW);
+
+        CachedValue<String> refreshed = CachedValue.replacing(first, new String("bitcoin"), NOW.plusSeconds(60));
+
+        assertThat(refreshed.version()).isEqualTo(first.version());
+        assertThat(refreshed.lastModified()).isEqualTo(NOW);
+        assertThat(refreshed.fetchedAt()).isEqualTo(NOW.plusSeconds(60));
+    }
+
+    @Test
+    void changedValueGetsANewVersionEvenWhenHashCodesCollide() {
+        CachedValue<String> first = new CachedValue<>("Aa", NOW);
+
+        CachedValue<String> refreshed = CachedValue.replacing(first, "BB", NOW.plusSeconds(60));
+
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(refreshed.version()).isNotEqualTo(first.version());
+        assertThat(refreshed.lastModified()).isEqualTo(NOW.plusSeconds(60));
+    }
+}
@@ -0,0 +1,48 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.johnbeo.johnbeo.cryptodata.dto.ChartSeries;
+import org.junit.jupiter.api.Test;
+
+class ChartDownsamplerTest {
+
+    @Test
+    void keepsEndpointsAndPeaksWithinTheRequestedBudget() {
+        int size = 1_000;
+        long[] timestamps = new long[size];
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = 1_000L * i;
+            values[i] = 100 + Math.sin(i / 50.0);
+        }
+        values[437] = 500;
+        ChartSeries series = new ChartSeries(timestamps, values);
+
+        ChartSeries sampled = ChartDownsampler.lttb(series, 50);
+
+        assertThat(sampled.size()).isEqualTo(50);
+        assertThat(sampled.timestamp(0)).isEqualTo(0L);
+        assertThat(sampled.timestamp(49)).isEqualTo(999_000L);
+        assertThat(sampled.values()).contains(500.0);
+        for (int i = 1; i < sampled.size(); i++) {
+            assertThat(sampled.timestamp(i)).isGreaterThan(sampled.timestamp(i - 1));
+        }
+    }
+
+    @Test
+    void returnsShortSeriesUntouched() {
+        ChartSeries series = new ChartSeries(new long[] {1, 2, 3}, new double[] {1, 2, 3});
+
+        assertThat(ChartDownsampler.lttb(series, 10)).isSameAs(series);
+        assertThat(ChartDownsampler.lttb(series, 2)).isSameAs(series);
+    }
+
+    @Test
+    void requestedPointCountsCollapseIntoBuckets() {
+        assertThat(ChartDownsampler.bucketPoints(0)).isEqualTo(60);
+        assertThat(ChartDownsampler.bucketPoints(719)).isEqualTo(480);
+        assertThat(ChartDownsampler.bucketPoints(720)).isEqualTo(720);
+        assertThat(ChartDownsampler.bucketPoints(1_000_000)).isEqualTo(2000);
+    }
+}
@@ -0,0 +1,92 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import com.johnbeo.johnbeo.cryptodata.dto.ChartSeries;
+import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChartHistoryStoreTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final long NOW = 1_000 * HOUR;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void historySurvivesReopenAcrossSegmentsWithoutTheLivePoint() {
+        CoinGeckoProperties properties = new CoinGeckoProperties();
+        properties.getHistory().setDirectory(directory.toString());
+        properties.getHistory().setSegmentRecords(4);
+        Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+        long[] timestamps = new long[10];
+        double[] values = new double[10];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = NOW - 48 * HOUR + i * 5 * HOUR;
+            values[i] = 100 + i;
+        }
+        ChartSeries prices = new ChartSeries(timestamps, values);
+        MarketChartDto chart = new MarketChartDto(prices, prices, ChartSeries.empty());
+
+        ChartHistoryStore store = new ChartHistoryStore(properties, clock);
+        store.append("bitcoin", "usd", 7, chart);
+        store.append("bitcoin", "usd", 7, chart);
+        store.flush();
+
+        MarketChartDto restored = new ChartHistoryStore(properties, clock).read("bitcoin", "usd", 7);
+
+        assertThat(restored.priceSeries().size()).isEqualTo(9);
+        assertThat(restored.priceSeries().timestamp(8)).isEqualTo(timestamps[8]);
+        assertThat(restored.marketCapSeries().values()).containsExactly(100, 101, 102, 103, 104, 105, 106, 107, 108);
+        assertThat(restored.totalVolumeSeries().isEmpty()).isTrue();
+    }
+
+    @Test
+    void ignoresCoinIdsThatAreNotSafePathSegments() {
+        CoinGeckoProperties properties = new CoinGeckoProperties();
+        properties.getHistory().setDirectory(directory.toString());
+        ChartHistoryStore store = new ChartHistoryStore(properties, Clock.systemUTC());
+
+        assertThat(store.read("../etc", "usd", 30).priceSeries().isEmpty()).isTrue();
+    }
+
+    @Test
+    void readsAndUnlistedRangesLeaveNothingOnDisk() {
+        CoinGeckoProperties properties = new CoinGeckoProperties();
+        properties.getHistory().setDirectory(directory.toString());
+        ChartHistoryStore store = new ChartHistoryStore(properties, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+        ChartSeries prices = new ChartSeries(new long[] {NOW - 2 * HOUR, NOW - HOUR, NOW}, new double[] {1, 2, 3});
+        MarketChartDto chart = new MarketChartDto(prices, ChartSeries.empty(), ChartSeries.empty());
+
+        assertThat(store.read("not-a-coin", "usd", 30).priceSeries().isEmpty()).isTrue();
+        store.append("bitcoin", "usd", 3, chart);
+
+        assertThat(directory.resolve("usd")).doesNotExist();
+        store.append("bitcoin", "usd", 30, chart);
+        assertThat(directory.resolve("usd/bitcoin/30d")).isDirectory();
+        assertThat(directory.resolve("usd/not-a-coin")).doesNotExist();
+    }
+
+    @Test
+    void evictedSeriesAreReloadedFromDisk() {
+        CoinGeckoProperties properties = new CoinGeckoProperties();
+        properties.getHistory().setDirectory(directory.toString());
+        properties.getHistory().setMaxOpenSeries(1);
+        ChartHistoryStore store = new ChartHistoryStore(properties, Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+        ChartSeries prices = new ChartSeries(new long[] {NOW - 2 * HOUR, NOW - HOUR, NOW}, new double[] {1, 2, 3});
+        MarketChartDto chart = new MarketChartDto(prices, ChartSeries.empty(), ChartSeries.empty());
+
+        store.append("bitcoin", "usd", 1, chart);
+        store.append("ethereum", "usd", 1, chart);
+
+        assertThat(store.read("bitcoin", "usd", 1).priceSeries().values()).containsExactly(1, 2);
+    }
+}
+}
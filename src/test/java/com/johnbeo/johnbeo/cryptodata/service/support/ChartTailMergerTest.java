@@ -0,0 +1,46 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.johnbeo.johnbeo.cryptodata.dto.ChartSeries;
+import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class ChartTailMergerTest {
+
+    private static final long DAY = Duration.ofDays(1).toMillis();
+    private static final long FIVE_MINUTES = Duration.ofMinutes(5).toMillis();
+
+    @Test
+    void replacesTheLivePointAndAppendsTheTail() {
+        ChartSeries cached = new ChartSeries(new long[] {0, 3_600_000, 3_900_000}, new double[] {1, 2, 2.5});
+        ChartSeries tail = new ChartSeries(new long[] {3_900_000, 4_200_000}, new double[] {2.4, 2.6});
+
+        ChartSeries merged = ChartTailMerger.merge(cached, tail, 0, 0);
+
+        assertThat(merged.timestamps()).containsExactly(0, 3_600_000, 3_900_000, 4_200_000);
+        assertThat(merged.values()).containsExactly(1, 2, 2.4, 2.6);
+    }
+
+    @Test
+    void collapsesFineTailToDailyBucketsAndDropsPointsOutsideTheWindow() {
+        ChartSeries cached = new ChartSeries(new long[] {0, DAY, 2 * DAY, 2 * DAY + 600_000}, new double[] {10, 11, 12, 12.5});
+        long[] tailTimestamps = new long[12 * 24 + 2];
+        double[] tailValues = new double[tailTimestamps.length];
+        for (int i = 0; i < tailTimestamps.length; i++) {
+            tailTimestamps[i] = 2 * DAY + 600_000 + i * FIVE_MINUTES;
+            tailValues[i] = 13 + i;
+        }
+        MarketChartDto merged = ChartTailMerger.merge(
+            new MarketChartDto(cached, ChartSeries.empty(), ChartSeries.empty()),
+            new MarketChartDto(new ChartSeries(tailTimestamps, tailValues), ChartSeries.empty(), ChartSeries.empty()),
+            DAY,
+            ChartTailMerger.bucketFor(90)
+        );
+
+        long live = tailTimestamps[tailTimestamps.length - 1];
+        assertThat(merged.priceSeries().timestamps()).containsExactly(DAY, 2 * DAY, 3 * DAY, live);
+        assertThat(merged.marketCapSeries().isEmpty()).isTrue();
+    }
+}
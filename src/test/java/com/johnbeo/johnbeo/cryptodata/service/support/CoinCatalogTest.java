@@ -0,0 +1,76 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.johnbeo.johnbeo.cryptodata.dto.CoinSearchDto;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CoinCatalogTest {
+
+    private static final String COIN_LIST = """
+        [
+          {"id": "bitcoin", "symbol": "btc", "name": "Bitcoin"},
+          {"id": "bitcoin-cash", "symbol": "bch", "name": "Bitcoin Cash"},
+          {"id": "wrapped-bitcoin", "symbol": "wbtc", "name": "Wrapped Bitcoin", "platforms": {"ethereum": "0x2260"}},
+          {"id": "ethereum", "symbol": "eth", "name": "Ethereum"},
+          {"id": "bit", "symbol": "bit", "name": "BitDAO"}
+        ]
+        """;
+
+    private final CoinCatalog catalog = parse(COIN_LIST);
+
+    @Test
+    void containsChecksNormalizedIds() {
+        assertThat(catalog.size()).isEqualTo(5);
+        assertThat(catalog.contains("Bitcoin")).isTrue();
+        assertThat(catalog.contains("bitcoin-cash")).isTrue();
+        assertThat(catalog.contains("bitcoin-sv")).isFalse();
+        assertThat(catalog.contains(null)).isFalse();
+    }
+
+    @Test
+    void searchRanksExactMatchesThenMarketRank() {
+        Map<String, Integer> marketRank = Map.of("bitcoin", 0, "wrapped-bitcoin", 15, "bitcoin-cash", 20);
+
+        List<CoinSearchDto> results = catalog.search("BIT", 10,
+            coinId -> marketRank.getOrDefault(coinId, Integer.MAX_VALUE));
+
+        assertThat(results).extracting(CoinSearchDto::id)
+            .containsExactly("bit", "bitcoin", "wrapped-bitcoin", "bitcoin-cash");
+    }
+
+    @Test
+    void searchMatchesSymbolsAndLaterNameWords() {
+        assertThat(catalog.search("eth", 5, coinId -> 0)).extracting(CoinSearchDto::id).containsExactly("ethereum");
+        assertThat(catalog.search("cash", 5, coinId -> 0)).extracting(CoinSearchDto::id).containsExactly("bitcoin-cash");
+        assertThat(catalog.search("bitcoin", 1, coinId -> 0)).extracting(CoinSearchDto::id).containsExactly("bitcoin");
+        assertThat(catalog.search(" ", 5, coinId -> 0)).isEmpty();
+    }
+
+    @Test
+    void broadPrefixesStillFindTheBestRankedCoin() {
+        CoinCatalog.Builder builder = new CoinCatalog.Builder(6000);
+        for (int i = 0; i < 6000; i++) {
+            builder.add(String.format("token-%04d", i), "t" + i, null);
+        }
+        CoinCatalog large = builder.build();
+
+        List<CoinSearchDto> results = large.search("token", 2,
+            coinId -> coinId.equals("token-5999") ? 0 : coinId.equals("token-4500") ? 1 : 100);
+
+        assertThat(results).extracting(CoinSearchDto::id).containsExactly("token-5999", "token-4500");
+    }
+
+    private static CoinCatalog parse(String json) {
+        try {
+            return MarketPayloadParser.parseCoinList(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
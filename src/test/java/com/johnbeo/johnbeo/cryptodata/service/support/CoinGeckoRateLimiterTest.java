@@ -0,0 +1,86 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.johnbeo.johnbeo.common.exception.ExternalApiException;
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class CoinGeckoRateLimiterTest {
+
+    private CoinGeckoProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CoinGeckoProperties();
+        properties.getRateLimit().setRequestsPerMinute(1);
+        properties.getRateLimit().setBurst(5);
+        properties.getRateLimit().setBackgroundReserve(3);
+        properties.getRateLimit().setInteractiveMaxWait(Duration.ofMillis(50));
+        properties.getRateLimit().setValidationMaxWait(Duration.ofMillis(50));
+    }
+
+    @Test
+    void backgroundYieldsBeforeTouchingTheReserve() {
+        CoinGeckoRateLimiter rateLimiter = new CoinGeckoRateLimiter(properties);
+
+        rateLimiter.acquire(RequestPriority.BACKGROUND);
+        rateLimiter.acquire(RequestPriority.BACKGROUND);
+
+        assertThatThrownBy(() -> rateLimiter.acquire(RequestPriority.BACKGROUND))
+            .isInstanceOf(ExternalApiException.class)
+            .hasMessageContaining("background");
+        assertThatCode(() -> rateLimiter.acquire(RequestPriority.INTERACTIVE)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void interactiveFailsOnlyAfterBoundedWait() {
+        CoinGeckoRateLimiter rateLimiter = new CoinGeckoRateLimiter(properties);
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire(RequestPriority.INTERACTIVE);
+        }
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> rateLimiter.acquire(RequestPriority.INTERACTIVE))
+            .isInstanceOf(ExternalApiException.class)
+            .hasMessageContaining("interactive");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(40));
+    }
+
+    @Test
+    void reactiveValidationYieldsToALaterInteractiveReservation() {
+        properties.getRateLimit().setRequestsPerMinute(600);
+        properties.getRateLimit().setBurst(1);
+        properties.getRateLimit().setInteractiveMaxWait(Duration.ofSeconds(2));
+        properties.getRateLimit().setValidationMaxWait(Duration.ofSeconds(2));
+        CoinGeckoRateLimiter rateLimiter = new CoinGeckoRateLimiter(properties);
+        rateLimiter.acquire(RequestPriority.INTERACTIVE);
+
+        List<RequestPriority> granted = new CopyOnWriteArrayList<>();
+        Mono.when(
+            rateLimiter.permit(RequestPriority.VALIDATION).doOnSuccess(ignored -> granted.add(RequestPriority.VALIDATION)),
+            rateLimiter.permit(RequestPriority.INTERACTIVE).doOnSuccess(ignored -> granted.add(RequestPriority.INTERACTIVE))
+        ).block(Duration.ofSeconds(5));
+
+        assertThat(granted).containsExactly(RequestPriority.INTERACTIVE, RequestPriority.VALIDATION);
+    }
+
+    @Test
+    void disabledLimiterNeverThrottles() {
+        properties.getRateLimit().setEnabled(false);
+        CoinGeckoRateLimiter rateLimiter = new CoinGeckoRateLimiter(properties);
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 20; i++) {
+                rateLimiter.acquire(RequestPriority.BACKGROUND);
+            }
+        }).doesNotThrowAnyException();
+    }
+}
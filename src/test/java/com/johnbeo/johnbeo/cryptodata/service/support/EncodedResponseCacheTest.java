@@ -0,0 +1,45 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class EncodedResponseCacheTest {
+
+    private final EncodedResponseCache cache =
+        new EncodedResponseCache(new ConcurrentMapCacheManager(EncodedResponseCache.CACHE_NAME), new ObjectMapper());
+
+    @Test
+    void encodesOncePerVersion() throws Exception {
+        List<Map<String, String>> rows = Collections.nCopies(200, Map.of("id", "bitcoin", "symbol", "btc"));
+
+        EncodedResponseCache.EncodedBody first = cache.encode("markets:usd:100:1", "v1", rows);
+        EncodedResponseCache.EncodedBody again = cache.encode("markets:usd:100:1", "v1", List.of());
+        EncodedResponseCache.EncodedBody next = cache.encode("markets:usd:100:1", "v2", List.of());
+
+        assertThat(again).isSameAs(first);
+        assertThat(next).isNotSameAs(first);
+        assertThat(first.hasGzip()).isTrue();
+        assertThat(first.gzip().length).isLessThan(first.json().length);
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertThat(gunzip.readAllBytes()).isEqualTo(first.json());
+        }
+        assertThat(new String(next.json(), StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    void smallBodiesAreNotCompressed() {
+        EncodedResponseCache.EncodedBody body = cache.encode("detail:bitcoin:usd", "v1", Map.of("id", "bitcoin"));
+
+        assertThat(body.hasGzip()).isFalse();
+        assertThat(new String(body.json(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":\"bitcoin\"}");
+    }
+}
@@ -0,0 +1,82 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.johnbeo.johnbeo.cryptodata.dto.CoinMarketDto;
+import com.johnbeo.johnbeo.cryptodata.dto.SimplePriceDto;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MarketPayloadParserTest {
+
+    @Test
+    void parseMarketsReadsRenderedFieldsAndSkipsTheRest() throws IOException {
+        String body = """
+            [
+              {"id": "bitcoin", "symbol": "btc", "name": "Bitcoin", "image": "btc.png",
+               "current_price": 50000.5, "market_cap": 900000000000, "total_volume": 35000000000.0,
+               "price_change_percentage_24h": -1.25, "roi": {"times": 1.5, "currency": "usd"}, "ath": 73000},
+              {"id": "ethereum", "symbol": "eth", "name": "Ethereum", "image": null,
+               "current_price": 3000, "market_cap": null, "total_volume": 1.5E10, "price_change_percentage_24h": null}
+            ]
+            """;
+
+        MarketColumns columns = MarketPayloadParser.parseMarkets(stream(body), 2);
+
+        assertThat(columns.size()).isEqualTo(2);
+        assertThat(columns.indexOf("ETHEREUM")).isEqualTo(1);
+        CoinMarketDto bitcoin = columns.row(0);
+        assertThat(bitcoin.symbol()).isEqualTo("btc");
+        assertThat(bitcoin.currentPrice()).isEqualByComparingTo("50000.5");
+        assertThat(bitcoin.marketCap()).isEqualByComparingTo("900000000000");
+        assertThat(bitcoin.priceChangePercentage24h()).isEqualByComparingTo("-1.25");
+        CoinMarketDto ethereum = columns.row(1);
+        assertThat(ethereum.marketCap()).isNull();
+        assertThat(ethereum.priceChangePercentage24h()).isNull();
+        assertThat(ethereum.totalVolume()).isEqualByComparingTo(BigDecimal.valueOf(15_000_000_000L));
+    }
+
+    @Test
+    void rowsSerializeFromTheColumnsInPlainNotation() throws IOException {
+        MarketColumns columns = new MarketColumns.Builder(2)
+            .add("bitcoin", "btc", "Bitcoin", null, 67000.12, 1.3e12, 3.5e10, -1.25)
+            .add("pepe", "pepe", "Pepe", "pepe.png", 0.00000123, Double.NaN, 12345678.5, 0)
+            .build();
+
+        String json = new ObjectMapper().writeValueAsString(columns.toDtos());
+
+        assertThat(json).isEqualTo("[{\"id\":\"bitcoin\",\"symbol\":\"btc\",\"name\":\"Bitcoin\",\"image\":null,"
+            + "\"current_price\":67000.12,\"market_cap\":1300000000000,\"total_volume\":35000000000,"
+            + "\"price_change_percentage_24h\":-1.25},"
+            + "{\"id\":\"pepe\",\"symbol\":\"pepe\",\"name\":\"Pepe\",\"image\":\"pepe.png\","
+            + "\"current_price\":0.00000123,\"market_cap\":null,\"total_volume\":12345678.5,"
+            + "\"price_change_percentage_24h\":0.0}]");
+        assertThat(columns.row(0).marketCap().toString()).isEqualTo("1300000000000");
+    }
+
+    @Test
+    void parseSimplePricesKeepsRequestedCoinsWithAPrice() throws IOException {
+        String body = """
+            {"bitcoin": {"usd": 65000.25, "usd_24h_change": 1.5, "usd_market_cap": 1},
+             "dogecoin": {"usd": 0.12},
+             "ethereum": {"usd": null}}
+            """;
+
+        Map<String, SimplePriceDto> prices = MarketPayloadParser.parseSimplePrices(stream(body), List.of("bitcoin", "ethereum"), "usd");
+
+        assertThat(prices).containsOnlyKeys("bitcoin");
+        assertThat(prices.get("bitcoin").price()).isEqualByComparingTo("65000.25");
+        assertThat(prices.get("bitcoin").change24h()).isEqualByComparingTo("1.5");
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,101 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import com.johnbeo.johnbeo.cryptodata.dto.CoinMarketDto;
+import com.johnbeo.johnbeo.cryptodata.dto.Versioned;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MarketSnapshotStoreTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-06T12:00:00Z");
+
+    private Clock clock;
+
+    private MarketSnapshotStore snapshotStore;
+
+    @BeforeEach
+    void setUp() {
+        CoinGeckoProperties properties = new CoinGeckoProperties();
+        properties.getSnapshot().setMaxAge(Duration.ofMinutes(5));
+        clock = mock(Clock.class);
+        snapshotStore = new MarketSnapshotStore(properties, clock);
+    }
+
+    @Test
+    void findFreshServesPagesAndIdsFromSnapshot() {
+        when(clock.instant()).thenReturn(NOW);
+        snapshotStore.publish("USD", MarketColumns.from(List.of(market("bitcoin"), market("ethereum"), market("ripple"))));
+
+        MarketSnapshot.CurrencyMarkets markets = snapshotStore.findFresh("usd").orElseThrow();
+
+        assertThat(markets.page(2, 1)).hasValueSatisfying(page ->
+            assertThat(page).extracting(CoinMarketDto::id).containsExactly("bitcoin", "ethereum"));
+        assertThat(markets.page(2, 2)).isEmpty();
+        assertThat(markets.findAll(List.of("ripple", "bitcoin"))).hasValueSatisfying(coins ->
+            assertThat(coins).extracting(CoinMarketDto::id).containsExactly("ripple", "bitcoin"));
+        assertThat(markets.findAll(List.of("bitcoin", "dogecoin"))).isEmpty();
+    }
+
+    @Test
+    void findFreshIgnoresSnapshotOlderThanMaxAge() {
+        when(clock.instant()).thenReturn(NOW, NOW.plus(Duration.ofMinutes(6)));
+        snapshotStore.publish("krw", MarketColumns.from(List.of(market("bitcoin"))));
+
+        assertThat(snapshotStore.findFresh("krw")).isEmpty();
+        assertThat(snapshotStore.current().find("krw")).isPresent();
+    }
+
+    @Test
+    void unchangedRowsKeepTheirVersionAcrossPublishes() {
+        when(clock.instant()).thenReturn(NOW, NOW, NOW.plusSeconds(30), NOW.plusSeconds(30));
+        snapshotStore.publish("usd", MarketColumns.from(List.of(market("bitcoin"), market("ethereum"))));
+        Versioned<List<CoinMarketDto>> first = snapshotStore.findFresh("usd").orElseThrow()
+            .versionedPage(2, 1, null).orElseThrow();
+
+        CoinMarketDto movedBitcoin = new CoinMarketDto(
+            "bitcoin", "bitcoin", "bitcoin", null, BigDecimal.TWO, BigDecimal.TEN, BigDecimal.TEN, BigDecimal.ZERO);
+        snapshotStore.publish("usd", MarketColumns.from(List.of(movedBitcoin, market("ethereum"))));
+        MarketSnapshot.CurrencyMarkets markets = snapshotStore.findFresh("usd").orElseThrow();
+        Versioned<List<CoinMarketDto>> second = markets.versionedPage(2, 1, null).orElseThrow();
+        Versioned<List<CoinMarketDto>> changed = markets.versionedPage(2, 1, first.changeVersion()).orElseThrow();
+
+        assertThat(second.version()).isNotEqualTo(first.version());
+        assertThat(second.lastModified()).isEqualTo(NOW.plusSeconds(30));
+        assertThat(changed.value()).extracting(CoinMarketDto::id).containsExactly("bitcoin");
+        assertThat(changed.changeVersion()).isEqualTo(second.changeVersion());
+    }
+
+    @Test
+    void versionsFromAnotherProcessNeverMatchAndYieldTheFullPage() {
+        when(clock.instant()).thenReturn(NOW);
+        MarketSnapshotStore restarted = new MarketSnapshotStore(new CoinGeckoProperties(), clock);
+        snapshotStore.publish("usd", MarketColumns.from(List.of(market("bitcoin"), market("ethereum"))));
+        CoinMarketDto movedBitcoin = new CoinMarketDto(
+            "bitcoin", "bitcoin", "bitcoin", null, BigDecimal.TWO, BigDecimal.TEN, BigDecimal.TEN, BigDecimal.ZERO);
+        restarted.publish("usd", MarketColumns.from(List.of(movedBitcoin, market("ethereum"))));
+
+        Versioned<List<CoinMarketDto>> before = snapshotStore.current().find("usd").orElseThrow()
+            .versionedPage(2, 1, null).orElseThrow();
+        MarketSnapshot.CurrencyMarkets after = restarted.current().find("usd").orElseThrow();
+        Versioned<List<CoinMarketDto>> full = after.versionedPage(2, 1, null).orElseThrow();
+        Versioned<List<CoinMarketDto>> delta = after.versionedPage(2, 1, before.changeVersion()).orElseThrow();
+
+        assertThat(full.version()).isNotEqualTo(before.version());
+        assertThat(delta.value()).extracting(CoinMarketDto::id).containsExactly("bitcoin", "ethereum");
+        assertThat(delta.version()).isEqualTo(full.version());
+    }
+
+    private CoinMarketDto market(String id) {
+        return new CoinMarketDto(id, id, id, null, BigDecimal.ONE, BigDecimal.TEN, BigDecimal.TEN, BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,90 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MicroBatcherTest {
+
+    private final MicroBatcher microBatcher = new MicroBatcher();
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void overlappingCallersShareOneLoadOfTheUnion() throws Exception {
+        List<List<String>> loads = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<List<String>> requests = List.of(
+            List.of("bitcoin", "ethereum"),
+            List.of("ethereum", "solana"),
+            List.of("ripple")
+        );
+
+        List<Future<Map<String, String>>> results = new ArrayList<>();
+        for (List<String> ids : requests) {
+            results.add(executor.submit(() -> {
+                start.await(5, TimeUnit.SECONDS);
+                return microBatcher.load("simplePrice:usd", ids, Duration.ofMillis(200), union -> {
+                    loads.add(union);
+                    Map<String, String> values = new LinkedHashMap<>();
+                    union.forEach(id -> values.put(id, id.toUpperCase()));
+                    return values;
+                });
+            }));
+        }
+        start.countDown();
+
+        assertThat(results.get(0).get(5, TimeUnit.SECONDS)).containsOnlyKeys("bitcoin", "ethereum");
+        assertThat(results.get(1).get(5, TimeUnit.SECONDS)).containsOnlyKeys("ethereum", "solana");
+        assertThat(results.get(2).get(5, TimeUnit.SECONDS)).containsExactly(Map.entry("ripple", "RIPPLE"));
+        assertThat(loads).hasSize(1);
+        assertThat(loads.get(0)).containsExactlyInAnyOrder("bitcoin", "ethereum", "solana", "ripple");
+    }
+
+    @Test
+    void closedBatchesAreNotReused() {
+        List<List<String>> loads = new ArrayList<>();
+
+        microBatcher.load("simplePrice:krw", List.of("bitcoin"), Duration.ZERO, union -> {
+            loads.add(union);
+            return Map.of("bitcoin", 1);
+        });
+        Map<String, Integer> second = microBatcher.load("simplePrice:krw", List.of("ethereum"), Duration.ZERO, union -> {
+            loads.add(union);
+            return Map.of("ethereum", 2);
+        });
+
+        assertThat(second).containsExactly(Map.entry("ethereum", 2));
+        assertThat(loads).containsExactly(List.of("bitcoin"), List.of("ethereum"));
+    }
+
+    @Test
+    void reportsIdleOnlyWhenNoBatchIsOpenOrLoading() {
+        List<Boolean> idleWhileLoading = new ArrayList<>();
+
+        assertThat(microBatcher.isIdle("simplePrice:eur")).isTrue();
+        microBatcher.load("simplePrice:eur", List.of("bitcoin"), Duration.ZERO, union -> {
+            idleWhileLoading.add(microBatcher.isIdle("simplePrice:eur"));
+            return Map.of("bitcoin", 1);
+        });
+
+        assertThat(idleWhileLoading).containsExactly(false);
+        assertThat(microBatcher.isIdle("simplePrice:eur")).isTrue();
+    }
+}
@@ -0,0 +1,159 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.johnbeo.johnbeo.common.exception.ExternalApiException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(5));
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        results.add(executor.submit(() -> singleFlight.execute("markets:usd", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "snapshot";
+        })));
+        waitUntilInFlight(loads);
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("markets:usd", () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        Thread.sleep(50);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("snapshot");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void waitersReceiveTheLoaderFailure() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> singleFlight.execute("detail:bitcoin:usd", () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw new ExternalApiException("rate limited");
+        }));
+        waitUntilInFlight(loads);
+        Future<Object> follower = executor.submit(() -> singleFlight.execute("detail:bitcoin:usd", () -> "unexpected"));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(ExternalApiException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(ExternalApiException.class);
+    }
+
+    @Test
+    void reactiveCallersJoinAnInFlightBlockingLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("coins.detail:bitcoin:usd", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "detail";
+        }));
+        waitUntilInFlight(loads);
+        Mono<String> follower = singleFlight.executeAsync("coins.detail:bitcoin:usd", () -> {
+            loads.incrementAndGet();
+            return Mono.just("duplicate");
+        });
+        Future<String> followerResult = executor.submit(() -> follower.block(Duration.ofSeconds(5)));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("detail");
+        assertThat(followerResult.get(5, TimeUnit.SECONDS)).isEqualTo("detail");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void completedKeysLoadAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("chart:bitcoin:30:usd", loads::incrementAndGet);
+        singleFlight.execute("chart:bitcoin:30:usd", loads::incrementAndGet);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void reentrantCallForTheSameKeyFailsInsteadOfDeadlocking() {
+        assertThatThrownBy(() -> singleFlight.execute("coins:list",
+            () -> singleFlight.execute("coins:list", () -> "nested")))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("coins:list", () -> "again")).isEqualTo("again");
+    }
+
+    @Test
+    void waitersGiveUpAfterTheRequestTimeout() throws Exception {
+        SingleFlight shortWait = new SingleFlight(Duration.ofMillis(100));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> shortWait.execute("markets:krw", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "slow";
+        }));
+        waitUntilInFlight(loads);
+
+        assertThatThrownBy(() -> shortWait.execute("markets:krw", () -> "unexpected"))
+            .isInstanceOf(ExternalApiException.class);
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    private void waitUntilInFlight(AtomicInteger loads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.johnbeo.johnbeo.common.config.CacheProperties;
+import com.johnbeo.johnbeo.common.exception.ExternalApiException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.util.unit.DataSize;
+
+class StaleWhileRevalidateCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-06T12:00:00Z");
+
+    private Clock clock;
+
+    private StaleWhileRevalidateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getPolicies().put("coins.detail", new CacheProperties.Policy(
+            Duration.ofMinutes(30),
+            Duration.ofSeconds(60),
+            DataSize.ofMegabytes(1)
+        ));
+        clock = mock(Clock.class);
+        cache = new StaleWhileRevalidateCache(
+            new ConcurrentMapCacheManager("coins.detail"),
+            cacheProperties,
+            new SingleFlight(Duration.ofSeconds(5)),
+            clock,
+            Runnable::run
+        );
+    }
+
+    @Test
+    void servesFreshEntryWithoutReloading() {
+        when(clock.instant()).thenReturn(NOW);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("coins.detail", "bitcoin:usd", () -> "v" + loads.incrementAndGet());
+        String value = cache.get("coins.detail", "bitcoin:usd", () -> "v" + loads.incrementAndGet());
+
+        assertThat(value).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void servesStaleEntryAndRefreshesInBackground() {
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(90));
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("coins.detail", "bitcoin:usd", () -> "v" + loads.incrementAndGet());
+
+        String stale = cache.get("coins.detail", "bitcoin:usd", () -> "v" + loads.incrementAndGet());
+        String refreshed = cache.get("coins.detail", "bitcoin:usd", () -> "v" + loads.incrementAndGet());
+
+        assertThat(stale).isEqualTo("v1");
+        assertThat(refreshed).isEqualTo("v2");
+    }
+
+    @Test
+    void keepsLastKnownValueWhenRefreshFails() {
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(90));
+        cache.get("coins.detail", "bitcoin:usd", () -> "v1");
+
+        String first = cache.get("coins.detail", "bitcoin:usd", () -> {
+            throw new ExternalApiException("CoinGecko unavailable");
+        });
+        String second = cache.get("coins.detail", "bitcoin:usd", () -> {
+            throw new ExternalApiException("CoinGecko unavailable");
+        });
+
+        assertThat(first).isEqualTo("v1");
+        assertThat(second).isEqualTo("v1");
+    }
+
+    @Test
+    void batchLookupLoadsOnlyMissingIds() {
+        when(clock.instant()).thenReturn(NOW);
+        List<List<String>> loads = new ArrayList<>();
+        Function<List<String>, Map<String, String>> loader = ids -> {
+            loads.add(ids);
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> id.toUpperCase()));
+        };
+
+        cache.getAll("coins.detail", List.of("bitcoin", "ethereum"), id -> "usd:" + id, loader);
+        Map<String, String> values = cache.getAll("coins.detail", List.of("solana", "bitcoin", "ethereum"), id -> "usd:" + id, loader);
+
+        assertThat(values).containsExactly(
+            Map.entry("solana", "SOLANA"),
+            Map.entry("bitcoin", "BITCOIN"),
+            Map.entry("ethereum", "ETHEREUM")
+        );
+        assertThat(loads).containsExactly(List.of("bitcoin", "ethereum"), List.of("solana"));
+    }
+}
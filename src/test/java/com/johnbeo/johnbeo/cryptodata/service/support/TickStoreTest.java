@@ -0,0 +1,134 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TickStoreTest {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private MutableClock clock;
+    private CoinGeckoProperties properties;
+    private TickStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        properties = new CoinGeckoProperties();
+        properties.getTicks().setBlockSize(16);
+        store = new TickStore(properties, clock);
+    }
+
+    @Test
+    void rangeScanReturnsEveryRecordedTickInOrder() {
+        for (int i = 0; i < 40; i++) {
+            record(100 + i * 0.5);
+            clock.advance(Duration.ofSeconds(30));
+        }
+
+        MarketChartDto ticks = store.scan("BITCOIN", "usd", START.toEpochMilli(), clock.millis());
+
+        assertThat(ticks.priceSeries().size()).isEqualTo(40);
+        assertThat(ticks.priceSeries().value(0)).isEqualTo(100);
+        assertThat(ticks.priceSeries().value(39)).isEqualTo(119.5);
+        assertThat(ticks.priceSeries().timestamp(39)).isEqualTo(START.plusSeconds(39 * 30).toEpochMilli());
+    }
+
+    @Test
+    void aggregatesTicksIntoBuckets() {
+        double[] prices = {10, 14, 9, 12, 20, 18};
+        for (double price : prices) {
+            record(price);
+            clock.advance(Duration.ofMinutes(1));
+        }
+
+        List<TickStore.Bucket> buckets = store.aggregate(
+            "bitcoin", "usd", START.toEpochMilli(), clock.millis(), Duration.ofMinutes(3));
+
+        assertThat(buckets).hasSize(2);
+        TickStore.Bucket first = buckets.get(0);
+        assertThat(first.open()).isEqualTo(10);
+        assertThat(first.high()).isEqualTo(14);
+        assertThat(first.low()).isEqualTo(9);
+        assertThat(first.close()).isEqualTo(9);
+        assertThat(buckets.get(1).count()).isEqualTo(3);
+        assertThat(buckets.get(1).close()).isEqualTo(18);
+    }
+
+    @Test
+    void chartIsServedLocallyOnlyOnceTheWindowIsCovered() {
+        for (int i = 0; i < 2 * 24 * 12; i++) {
+            record(100 + i);
+            clock.advance(Duration.ofMinutes(5));
+        }
+
+        assertThat(store.chart("bitcoin", "usd", 7)).isEmpty();
+        assertThat(store.chart("bitcoin", "usd", 1)).hasValueSatisfying(chart -> {
+            assertThat(chart.priceSeries().size()).isBetween(287, 289);
+            assertThat(chart.marketCapSeries().size()).isEqualTo(chart.priceSeries().size());
+        });
+    }
+
+    @Test
+    void compactionKeepsOneTickPerResolutionAndRetentionDropsOldBlocks() {
+        for (int i = 0; i < 200; i++) {
+            record(100 + i);
+            clock.advance(Duration.ofSeconds(30));
+        }
+        clock.advance(Duration.ofDays(2));
+        store.compact();
+
+        MarketChartDto compacted = store.scan("bitcoin", "usd", Long.MIN_VALUE, Long.MAX_VALUE);
+        assertThat(compacted.priceSeries().size()).isBetween(19, 21);
+        assertThat(compacted.priceSeries().value(compacted.priceSeries().size() - 1)).isLessThanOrEqualTo(299);
+
+        clock.advance(Duration.ofDays(60));
+        store.compact();
+
+        assertThat(store.scan("bitcoin", "usd", Long.MIN_VALUE, Long.MAX_VALUE).priceSeries().isEmpty()).isTrue();
+    }
+
+    private void record(double price) {
+        MarketColumns columns = new MarketColumns.Builder(1)
+            .add("bitcoin", "btc", "Bitcoin", null, price, price * 19_000_000, 1_000_000, 0.5)
+            .build();
+        store.record("usd", columns);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.johnbeo.johnbeo.cryptodata.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs the blocking hot paths on virtual threads and fails on any {@code jdk.VirtualThreadPinned} event, so a
+ * {@code synchronized} block that parks is caught here instead of in production with virtual threads enabled.
+ */
+class VirtualThreadPinningTest {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final int CALLERS = 8;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void hotPathsDoNotPinCarrierThreads() throws Exception {
+        CoinGeckoProperties properties = new CoinGeckoProperties();
+        properties.getRateLimit().setRequestsPerMinute(1200);
+        properties.getRateLimit().setBurst(1);
+        properties.getRateLimit().setInteractiveMaxWait(Duration.ofSeconds(5));
+        CoinGeckoRateLimiter rateLimiter = new CoinGeckoRateLimiter(properties);
+        SingleFlight singleFlight = new SingleFlight(Duration.ofSeconds(5));
+        MicroBatcher microBatcher = new MicroBatcher();
+
+        Path dump = directory.resolve("pinning.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> calls = new ArrayList<>();
+                for (int i = 0; i < CALLERS; i++) {
+                    String id = "coin-" + i;
+                    calls.add(executor.submit(() -> rateLimiter.acquire(RequestPriority.INTERACTIVE)));
+                    calls.add(executor.submit(() -> singleFlight.execute("chart", () -> sleep(Duration.ofMillis(20)))));
+                    calls.add(executor.submit(() -> microBatcher.load(
+                        "prices",
+                        List.of(id),
+                        Duration.ofMillis(10),
+                        ids -> ids.stream().collect(Collectors.toMap(key -> key, key -> sleep(Duration.ofMillis(5))))
+                    )));
+                }
+                for (Future<?> call : calls) {
+                    call.get();
+                }
+            }
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<String> pinned = RecordingFile.readAllEvents(dump).stream()
+            .filter(event -> event.getEventType().getName().equals(PINNED))
+            .map(VirtualThreadPinningTest::describe)
+            .toList();
+        assertThat(pinned).isEmpty();
+    }
+
+    private static String describe(RecordedEvent event) {
+        return event.getStackTrace() == null ? event.toString() : event.getStackTrace().getFrames().stream()
+            .map(frame -> frame.getMethod().getType().getName() + '.' + frame.getMethod().getName())
+            .collect(Collectors.joining(" <- "));
+    }
+
+    private static Long sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return duration.toMillis();
+    }
+}
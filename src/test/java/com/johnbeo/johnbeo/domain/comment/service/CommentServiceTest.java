@@ -19,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 @DataJpaTest
@@ -40,6 +41,9 @@ class CommentServiceTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private MemberPrincipal authorPrincipal;
     private Post post;
 
@@ -79,4 +83,22 @@ class CommentServiceTest {
         assertThat(comments.get(0).replies()).hasSize(1);
         assertThat(comments.get(0).replies().get(0).content()).isEqualTo("대댓글");
     }
+
+    @Test
+    void commentCountFollowsCreateAndDelete() {
+        CommentResponse parent = commentService.createComment(new CreateCommentRequest(post.getId(), null, "부모 댓글"), authorPrincipal);
+        commentService.createComment(new CreateCommentRequest(post.getId(), parent.id(), "대댓글"), authorPrincipal);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(postRepository.findById(post.getId())).get().extracting(Post::getCommentCount).isEqualTo(2L);
+
+        commentService.deleteComment(parent.id(), authorPrincipal);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(postRepository.findById(post.getId())).get().extracting(Post::getCommentCount).isEqualTo(0L);
+        assertThat(postRepository.findCounterDrift(0L, 10))
+            .allSatisfy(drift -> assertThat(drift.getCommentDrift()).isZero());
+    }
 }
@@ -2,7 +2,8 @@ package com.johnbeo.johnbeo.domain.feed.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.johnbeo.johnbeo.domain.board.entity.Board;
@@ -14,20 +15,19 @@ import com.johnbeo.johnbeo.domain.member.entity.Member;
 import com.johnbeo.johnbeo.domain.member.model.Role;
 import com.johnbeo.johnbeo.domain.post.entity.Post;
 import com.johnbeo.johnbeo.domain.post.repository.PostRepository;
-import com.johnbeo.johnbeo.domain.vote.model.VoteTargetType;
-import com.johnbeo.johnbeo.domain.vote.repository.VoteRepository;
+import com.johnbeo.johnbeo.domain.post.service.HotPostRanking;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
-import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,7 +40,7 @@ class HomeFeedServiceTest {
     private CommentRepository commentRepository;
 
     @Mock
-    private VoteRepository voteRepository;
+    private HotPostRanking hotPostRanking;
 
     private Clock clock;
 
@@ -49,7 +49,7 @@ class HomeFeedServiceTest {
     @BeforeEach
     void setUp() {
         clock = Clock.fixed(Instant.parse("2025-10-06T12:00:00Z"), ZoneOffset.UTC);
-        homeFeedService = new HomeFeedService(postRepository, commentRepository, voteRepository, clock);
+        homeFeedService = new HomeFeedService(postRepository, commentRepository, hotPostRanking, clock);
     }
 
     @Test
@@ -81,6 +81,9 @@ class HomeFeedServiceTest {
             .title("비트코인 ETF 승인 임박")
             .content("ETF 승인 루머가 다시 돌고 있습니다.")
             .viewCount(1234L)
+            .commentCount(5L)
+            .upVoteCount(15L)
+            .downVoteCount(3L)
             .build();
         ReflectionTestUtils.setField(post, "id", 301L);
         ReflectionTestUtils.setField(post, "createdAt", Instant.parse("2025-10-06T09:30:00Z"));
@@ -97,13 +100,21 @@ class HomeFeedServiceTest {
 
         when(postRepository.findTrendingSince(any(), any())).thenReturn(List.of(post));
         when(postRepository.findRecent(any())).thenReturn(List.of(post));
-        when(postRepository.findByBoard_Type(eq(BoardType.GENERAL), any())).thenReturn(new PageImpl<>(List.of(post)));
-        for (BoardType type : EnumSet.complementOf(EnumSet.of(BoardType.GENERAL))) {
-            when(postRepository.findByBoard_Type(eq(type), any())).thenReturn(Page.empty());
-        }
+        when(postRepository.findLatestPerBoardType(5)).thenReturn(List.of(
+            new SpelAwareProxyProjectionFactory().createProjection(PostRepository.BoardFeedRow.class, Map.of(
+                "id", 301L,
+                "title", "비트코인 ETF 승인 임박",
+                "boardType", BoardType.GENERAL,
+                "boardName", "자유 토론",
+                "boardSlug", "free",
+                "authorNickname", "사토시",
+                "createdAt", Instant.parse("2025-10-06T09:30:00Z"),
+                "viewCount", 1234L,
+                "commentCount", 5L,
+                "voteScore", 12L
+            ))
+        ));
         when(commentRepository.findAllByOrderByCreatedAtDesc(any())).thenReturn(new PageImpl<>(List.of(comment)));
-        when(commentRepository.countByPostId(post.getId())).thenReturn(5L);
-        when(voteRepository.sumVoteScore(post.getId(), VoteTargetType.POST)).thenReturn(12L);
 
         HomeFeedDto feed = homeFeedService.loadHomeFeed();
 
@@ -113,11 +124,13 @@ class HomeFeedServiceTest {
         assertThat(feed.trending().get(0).voteScore()).isEqualTo(12L);
 
         assertThat(feed.boardFeeds()).containsKey(BoardType.GENERAL);
-        assertThat(feed.boardFeeds().get(BoardType.GENERAL)).hasSize(1);
+        assertThat(feed.boardFeeds().get(BoardType.GENERAL)).singleElement()
+            .satisfies(card -> assertThat(card.voteScore()).isEqualTo(12L));
 
         assertThat(feed.fresh()).extracting(card -> card.title()).contains("비트코인 ETF 승인 임박");
 
         assertThat(feed.recentComments()).hasSize(1);
         assertThat(feed.recentComments().get(0).contentSnippet()).contains("추가 매수");
+        verify(commentRepository, never()).countByPostId(any());
     }
 }
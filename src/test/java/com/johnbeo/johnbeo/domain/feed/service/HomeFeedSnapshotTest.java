@@ -0,0 +1,102 @@
+package com.johnbeo.johnbeo.domain.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.johnbeo.johnbeo.domain.feed.config.HomeFeedProperties;
+import com.johnbeo.johnbeo.domain.feed.dto.HomeFeedDto;
+import com.johnbeo.johnbeo.domain.feed.event.HomeFeedChangedEvent;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class HomeFeedSnapshotTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-06T12:00:00Z");
+
+    @Mock
+    private HomeFeedService homeFeedService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private HomeFeedSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new HomeFeedSnapshot(
+            homeFeedService,
+            new HomeFeedProperties(),
+            taskScheduler,
+            Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+
+    @Test
+    void readsShareOneSnapshotUntilRefresh() {
+        HomeFeedDto first = feed();
+        HomeFeedDto second = feed();
+        when(homeFeedService.loadHomeFeed()).thenReturn(first, second);
+
+        assertThat(snapshot.current()).isSameAs(first);
+        assertThat(snapshot.current()).isSameAs(first);
+
+        snapshot.refresh();
+
+        assertThat(snapshot.current()).isSameAs(second);
+        verify(homeFeedService, times(2)).loadHomeFeed();
+    }
+
+    @Test
+    void burstOfChangesIsDebouncedIntoOneRebuild() {
+        HomeFeedDto initial = feed();
+        HomeFeedDto rebuilt = feed();
+        when(homeFeedService.loadHomeFeed()).thenReturn(initial, rebuilt);
+        snapshot.current();
+
+        snapshot.onFeedChanged(new HomeFeedChangedEvent(1L));
+        snapshot.onFeedChanged(new HomeFeedChangedEvent(2L));
+        snapshot.onFeedChanged(new HomeFeedChangedEvent(3L));
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(task.capture(), eq(NOW.plusSeconds(2)));
+        task.getValue().run();
+
+        assertThat(snapshot.current()).isSameAs(rebuilt);
+        verify(homeFeedService, times(2)).loadHomeFeed();
+
+        snapshot.onFeedChanged(new HomeFeedChangedEvent(4L));
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void failedRebuildKeepsPreviousSnapshot() {
+        HomeFeedDto initial = feed();
+        when(homeFeedService.loadHomeFeed())
+            .thenReturn(initial)
+            .thenThrow(new IllegalStateException("db down"));
+
+        snapshot.current();
+        snapshot.refresh();
+
+        assertThat(snapshot.current()).isSameAs(initial);
+    }
+
+    private HomeFeedDto feed() {
+        return new HomeFeedDto(List.of(), List.of(), Map.of(), List.of());
+    }
+}
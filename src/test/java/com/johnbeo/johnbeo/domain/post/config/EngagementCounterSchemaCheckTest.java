@@ -0,0 +1,46 @@
+package com.johnbeo.johnbeo.domain.post.config;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.junit.jupiter.api.Test;
+
+class EngagementCounterSchemaCheckTest {
+
+    @Test
+    void failsWithTheScriptToApplyWhenCounterColumnsAreMissing() throws SQLException {
+        DriverManagerDataSource dataSource = dataSource("counters-missing");
+        execute(dataSource, "CREATE TABLE posts (id BIGINT PRIMARY KEY, comment_count BIGINT)");
+
+        assertThatThrownBy(() -> new EngagementCounterSchemaCheck(dataSource).afterPropertiesSet())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("posts.up_vote_count")
+            .hasMessageContaining(EngagementCounterSchemaCheck.SCRIPT);
+    }
+
+    @Test
+    void passesOnceTheColumnsExist() throws SQLException {
+        DriverManagerDataSource dataSource = dataSource("counters-applied");
+        execute(dataSource, "CREATE TABLE posts (id BIGINT PRIMARY KEY, comment_count BIGINT, bookmark_count BIGINT, "
+            + "up_vote_count BIGINT, down_vote_count BIGINT)");
+        execute(dataSource, "CREATE TABLE comments (id BIGINT PRIMARY KEY, up_vote_count BIGINT, down_vote_count BIGINT)");
+
+        assertThatCode(() -> new EngagementCounterSchemaCheck(dataSource).afterPropertiesSet()).doesNotThrowAnyException();
+    }
+
+    private DriverManagerDataSource dataSource(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setUrl("jdbc:h2:mem:" + name + ";MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    private void execute(DriverManagerDataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
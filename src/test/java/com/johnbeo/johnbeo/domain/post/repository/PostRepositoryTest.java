@@ -0,0 +1,83 @@
+package com.johnbeo.johnbeo.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.johnbeo.johnbeo.domain.board.entity.Board;
+import com.johnbeo.johnbeo.domain.board.model.BoardType;
+import com.johnbeo.johnbeo.domain.board.repository.BoardRepository;
+import com.johnbeo.johnbeo.domain.member.entity.Member;
+import com.johnbeo.johnbeo.domain.member.model.Role;
+import com.johnbeo.johnbeo.domain.member.repository.MemberRepository;
+import com.johnbeo.johnbeo.domain.post.entity.Post;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url="
+    + "jdbc:h2:mem:post-repository;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void findLatestPerBoardTypeLimitsEachBoardType() {
+        Member author = memberRepository.save(Member.builder()
+            .username("feed-writer")
+            .password("encoded")
+            .email("feed@example.com")
+            .nickname("피드")
+            .role(Role.USER)
+            .build());
+        Board general = boardRepository.save(Board.builder()
+            .name("자유")
+            .description("자유 게시판")
+            .slug("free")
+            .type(BoardType.GENERAL)
+            .build());
+        Board news = boardRepository.save(Board.builder()
+            .name("뉴스")
+            .description("뉴스 게시판")
+            .slug("news")
+            .type(BoardType.NEWS)
+            .build());
+        Post first = save(author, general, "첫 글");
+        Post second = save(author, general, "두 번째 글");
+        Post third = save(author, general, "세 번째 글");
+        Post headline = save(author, news, "속보");
+
+        List<PostRepository.BoardFeedRow> rows = postRepository.findLatestPerBoardType(2);
+
+        assertThat(rows).extracting(PostRepository.BoardFeedRow::getId)
+            .containsExactly(third.getId(), second.getId(), headline.getId())
+            .doesNotContain(first.getId());
+        assertThat(rows.get(0).getBoardType()).isEqualTo(BoardType.GENERAL);
+        assertThat(rows.get(0).getBoardSlug()).isEqualTo("free");
+        assertThat(rows.get(0).getAuthorNickname()).isEqualTo("피드");
+        assertThat(rows.get(0).getCreatedAt()).isNotNull();
+        assertThat(rows.get(2).getBoardType()).isEqualTo(BoardType.NEWS);
+    }
+
+    private Post save(Member author, Board board, String title) {
+        return postRepository.saveAndFlush(Post.builder()
+            .author(author)
+            .board(board)
+            .title(title)
+            .content("본문")
+            .build());
+    }
+}
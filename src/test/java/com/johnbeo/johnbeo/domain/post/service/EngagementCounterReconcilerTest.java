@@ -0,0 +1,98 @@
+package com.johnbeo.johnbeo.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.johnbeo.johnbeo.domain.board.entity.Board;
+import com.johnbeo.johnbeo.domain.board.model.BoardType;
+import com.johnbeo.johnbeo.domain.board.repository.BoardRepository;
+import com.johnbeo.johnbeo.domain.bookmark.entity.Bookmark;
+import com.johnbeo.johnbeo.domain.bookmark.repository.BookmarkRepository;
+import com.johnbeo.johnbeo.domain.member.entity.Member;
+import com.johnbeo.johnbeo.domain.member.model.Role;
+import com.johnbeo.johnbeo.domain.member.repository.MemberRepository;
+import com.johnbeo.johnbeo.domain.post.config.EngagementCounterProperties;
+import com.johnbeo.johnbeo.domain.post.entity.Post;
+import com.johnbeo.johnbeo.domain.post.repository.PostRepository;
+import com.johnbeo.johnbeo.domain.vote.entity.Vote;
+import com.johnbeo.johnbeo.domain.vote.model.VoteTargetType;
+import com.johnbeo.johnbeo.domain.vote.repository.VoteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({EngagementCounterReconciler.class, EngagementCounterProperties.class})
+class EngagementCounterReconcilerTest {
+
+    @Autowired
+    private EngagementCounterReconciler reconciler;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void reconcilePostsRestoresDriftedCounters() {
+        Member member = memberRepository.save(Member.builder()
+            .username("counter-user")
+            .password("encoded")
+            .email("counter@example.com")
+            .nickname("카운터")
+            .role(Role.USER)
+            .build());
+        Board board = boardRepository.save(Board.builder()
+            .name("카운터 게시판")
+            .description("설명")
+            .slug("counters")
+            .type(BoardType.GENERAL)
+            .build());
+        Post drifted = postRepository.save(Post.builder()
+            .author(member)
+            .board(board)
+            .title("드리프트")
+            .content("본문")
+            .build());
+        Post inSync = postRepository.save(Post.builder()
+            .author(member)
+            .board(board)
+            .title("정상")
+            .content("본문")
+            .build());
+        bookmarkRepository.save(Bookmark.builder().member(member).post(drifted).build());
+        voteRepository.save(Vote.builder()
+            .member(member)
+            .targetId(drifted.getId())
+            .targetType(VoteTargetType.POST)
+            .value(-1)
+            .build());
+        entityManager.flush();
+        postRepository.addCommentCount(drifted.getId(), 3);
+
+        assertThat(reconciler.reconcilePosts()).isEqualTo(1L);
+        entityManager.clear();
+
+        Post reloaded = postRepository.findById(drifted.getId()).orElseThrow();
+        assertThat(reloaded.getCommentCount()).isZero();
+        assertThat(reloaded.getBookmarkCount()).isEqualTo(1L);
+        assertThat(reloaded.getUpVoteCount()).isZero();
+        assertThat(reloaded.getDownVoteCount()).isEqualTo(1L);
+        assertThat(postRepository.findById(inSync.getId())).get().extracting(Post::getCommentCount).isEqualTo(0L);
+        assertThat(reconciler.reconcilePosts()).isZero();
+    }
+}
@@ -0,0 +1,118 @@
+package com.johnbeo.johnbeo.domain.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.johnbeo.johnbeo.domain.post.config.HotRankingProperties;
+import com.johnbeo.johnbeo.domain.post.event.PostEngagementEvent;
+import com.johnbeo.johnbeo.domain.post.model.HotWindow;
+import com.johnbeo.johnbeo.domain.post.repository.PostRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+@ExtendWith(MockitoExtension.class)
+class HotPostRankingTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-06T12:00:00Z");
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private Clock clock;
+
+    private HotPostRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        ranking = new HotPostRanking(new HotRankingProperties(), postRepository, clock);
+    }
+
+    @Test
+    void retractionsDoNotSinkAPostBelowOneWithNoEngagement() {
+        Instant createdAt = NOW.minus(Duration.ofHours(1));
+        ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.CREATED, 1));
+        ranking.onEngagement(new PostEngagementEvent(2L, createdAt, PostEngagementEvent.Kind.CREATED, 1));
+        ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.VIEW, 1));
+        ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.VOTE, 1));
+        ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.COMMENT, 1));
+
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofHours(6)));
+        ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.VOTE, -1));
+        ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.COMMENT, -1));
+
+        assertThat(ranking.topPostIds(HotWindow.DAY, 2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void togglingAVoteOrRecreatingACommentCannotRaiseTheRank() {
+        Instant createdAt = NOW.minus(Duration.ofHours(1));
+        ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.CREATED, 1));
+        ranking.onEngagement(new PostEngagementEvent(2L, createdAt, PostEngagementEvent.Kind.CREATED, 1));
+        ranking.onEngagement(new PostEngagementEvent(2L, createdAt, PostEngagementEvent.Kind.VOTE, 1));
+        ranking.onEngagement(new PostEngagementEvent(2L, createdAt, PostEngagementEvent.Kind.VIEW, 1));
+
+        for (int i = 0; i < 10; i++) {
+            ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.VOTE, 1));
+            ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.VOTE, -1));
+            ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.COMMENT, 1));
+            ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.COMMENT, -1));
+        }
+        ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.VOTE, 1));
+        ranking.onEngagement(new PostEngagementEvent(1L, createdAt, PostEngagementEvent.Kind.VOTE, -2));
+
+        assertThat(ranking.topPostIds(HotWindow.DAY, 2)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void seedingIgnoresNegativeVoteScores() {
+        Instant createdAt = NOW.minus(Duration.ofHours(2));
+        when(postRepository.findEngagementSince(any(), any())).thenReturn(List.of(
+            new Engagement(1L, createdAt, 2, 0, -5),
+            new Engagement(2L, createdAt, 0, 0, 0)
+        ));
+
+        ranking.run(new DefaultApplicationArguments());
+
+        assertThat(ranking.topPostIds(HotWindow.DAY, 2)).containsExactly(1L, 2L);
+    }
+
+    private record Engagement(Long id, Instant createdAt, long viewCount, long commentCount, long voteScore)
+        implements PostRepository.PostEngagement {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public long getViewCount() {
+            return viewCount;
+        }
+
+        @Override
+        public long getCommentCount() {
+            return commentCount;
+        }
+
+        @Override
+        public long getVoteScore() {
+            return voteScore;
+        }
+    }
+}
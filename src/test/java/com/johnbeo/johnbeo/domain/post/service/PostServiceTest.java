@@ -11,11 +11,13 @@ import com.johnbeo.johnbeo.domain.bookmark.service.BookmarkService;
 import com.johnbeo.johnbeo.domain.member.entity.Member;
 import com.johnbeo.johnbeo.domain.member.model.Role;
 import com.johnbeo.johnbeo.domain.member.repository.MemberRepository;
+import com.johnbeo.johnbeo.domain.post.config.HotRankingProperties;
 import com.johnbeo.johnbeo.domain.post.dto.CreatePostRequest;
 import com.johnbeo.johnbeo.domain.post.dto.PostResponse;
 import com.johnbeo.johnbeo.domain.post.repository.PostRepository;
 import com.johnbeo.johnbeo.domain.post.service.support.PostViewTracker;
 import com.johnbeo.johnbeo.security.model.MemberPrincipal;
+import java.time.Clock;
 import java.time.Duration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,7 +33,14 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 @DataJpaTest
-@Import({PostService.class, BookmarkService.class, PostViewTracker.class, PostServiceTest.TestCacheConfig.class})
+@Import({
+    PostService.class,
+    BookmarkService.class,
+    PostViewTracker.class,
+    HotPostRanking.class,
+    HotRankingProperties.class,
+    PostServiceTest.TestCacheConfig.class
+})
 class PostServiceTest {
 
     @Autowired
@@ -147,6 +156,11 @@ class PostServiceTest {
     @TestConfiguration
     static class TestCacheConfig {
 
+        @Bean
+        Clock clock() {
+            return Clock.systemUTC();
+        }
+
         @Bean
         @Qualifier("postViewCache")
         Cache<String, Boolean> postViewCache() {
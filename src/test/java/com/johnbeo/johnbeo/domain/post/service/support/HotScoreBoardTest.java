@@ -0,0 +1,53 @@
+package com.johnbeo.johnbeo.domain.post.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class HotScoreBoardTest {
+
+    private static final Instant START = Instant.parse("2025-10-06T12:00:00Z");
+
+    private final HotScoreBoard board = new HotScoreBoard(Duration.ofDays(1), Duration.ofHours(6), 3, START);
+
+    @Test
+    void recentEngagementOutranksOlderEngagementOfTheSameSize() {
+        board.add(1L, START, 10, START);
+        board.add(2L, START, 10, START.plus(Duration.ofHours(6)));
+        board.add(3L, START, 6, START.plus(Duration.ofHours(6)));
+
+        assertThat(board.top(3, START.plus(Duration.ofHours(6)))).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void rebaseKeepsOrderAndDropsPostsOutsideTheWindow() {
+        board.add(1L, START, 5, START);
+        board.add(2L, START.plus(Duration.ofHours(12)), 1, START.plus(Duration.ofHours(12)));
+        board.add(3L, START.plus(Duration.ofHours(20)), 2, START.plus(Duration.ofHours(20)));
+
+        Instant later = START.plus(Duration.ofHours(25));
+        assertThat(board.top(3, later)).containsExactly(3L, 2L);
+
+        board.rebase(later);
+
+        assertThat(board.size()).isEqualTo(2);
+        assertThat(board.top(3, later)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void evictsTheLowestWhenFullAndHonoursRemovals() {
+        board.add(1L, START, 4, START);
+        board.add(2L, START, 3, START);
+        board.add(3L, START, 2, START);
+        board.add(4L, START, 1, START);
+
+        assertThat(board.top(10, START)).containsExactly(1L, 2L, 3L);
+
+        board.add(3L, START, 5, START);
+        board.remove(1L);
+
+        assertThat(board.top(2, START)).containsExactly(3L, 2L);
+    }
+}
@@ -2,11 +2,16 @@ package com.johnbeo.johnbeo.domain.watchlist.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.johnbeo.johnbeo.common.exception.ResourceNotFoundException;
 import com.johnbeo.johnbeo.cryptodata.dto.CoinMarketDto;
+import com.johnbeo.johnbeo.cryptodata.service.CoinCatalogService;
 import com.johnbeo.johnbeo.cryptodata.service.CryptoDataService;
 import com.johnbeo.johnbeo.domain.member.entity.Member;
 import com.johnbeo.johnbeo.domain.member.model.Role;
@@ -18,6 +23,7 @@ import com.johnbeo.johnbeo.domain.watchlist.repository.WatchlistEntryRepository;
 import com.johnbeo.johnbeo.security.model.MemberPrincipal;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,6 +46,9 @@ class WatchlistServiceTest {
     @Mock
     private CryptoDataService cryptoDataService;
 
+    @Mock
+    private CoinCatalogService coinCatalogService;
+
     private WatchlistProperties watchlistProperties;
 
     @InjectMocks
@@ -55,15 +64,17 @@ class WatchlistServiceTest {
         watchlistProperties.setDefaults(List.of(
             new WatchlistProperties.DefaultCoin("bitcoin", "비트코인")
         ));
-        watchlistService = new WatchlistService(watchlistEntryRepository, memberRepository, cryptoDataService, watchlistProperties);
+        watchlistService = new WatchlistService(
+            watchlistEntryRepository, memberRepository, cryptoDataService, coinCatalogService, watchlistProperties);
     }
 
     @Test
     void loadWatchlistReturnsDefaultsForGuest() {
-        when(cryptoDataService.getMarketCoinsByIds(eq(List.of("bitcoin")), eq("usd")))
-            .thenReturn(List.of(sampleMarket("bitcoin", "btc", BigDecimal.valueOf(65000), BigDecimal.valueOf(1.5), BigDecimal.valueOf(40000000000L))));
-        when(cryptoDataService.getMarketCoinsByIds(eq(List.of("bitcoin")), eq("krw")))
-            .thenReturn(List.of(sampleMarket("bitcoin", "btc", BigDecimal.valueOf(85000000), BigDecimal.valueOf(1.5), BigDecimal.ZERO)));
+        when(cryptoDataService.getMarketQuotes(eq(List.of("bitcoin")), eq(List.of("usd", "krw"))))
+            .thenReturn(Map.of("bitcoin", Map.of(
+                "usd", sampleMarket("bitcoin", "btc", BigDecimal.valueOf(65000), BigDecimal.valueOf(1.5), BigDecimal.valueOf(40000000000L)),
+                "krw", sampleMarket("bitcoin", "btc", BigDecimal.valueOf(85000000), BigDecimal.valueOf(1.5), BigDecimal.ZERO)
+            )));
 
         WatchlistView view = watchlistService.loadWatchlist(null);
 
@@ -101,6 +112,30 @@ class WatchlistServiceTest {
         assertThat(saved.getDisplayOrder()).isEqualTo(5);
     }
 
+    @Test
+    void addEntryValidatesAgainstLoadedCatalogWithoutUpstreamCall() {
+        Long memberId = 1L;
+        Member member = Member.builder()
+            .id(memberId)
+            .username("tester")
+            .password("secret")
+            .email("tester@example.com")
+            .nickname("테스터")
+            .role(Role.USER)
+            .build();
+
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+        when(watchlistEntryRepository.countByMemberId(memberId)).thenReturn(0);
+        when(watchlistEntryRepository.existsByMemberIdAndCoinIdIgnoreCase(memberId, "not-a-coin")).thenReturn(false);
+        when(coinCatalogService.isLoaded()).thenReturn(true);
+        when(coinCatalogService.contains("not-a-coin")).thenReturn(false);
+
+        assertThatThrownBy(() -> watchlistService.addEntry(memberId, "not-a-coin", null))
+            .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(cryptoDataService);
+        verify(watchlistEntryRepository, never()).save(any());
+    }
+
     @Test
     void addEntryThrowsWhenLimitExceeded() {
         Long memberId = 1L;
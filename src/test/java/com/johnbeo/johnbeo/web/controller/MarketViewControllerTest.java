@@ -13,11 +13,13 @@ import com.johnbeo.johnbeo.cryptodata.dto.CoinMarketDto;
 import com.johnbeo.johnbeo.cryptodata.dto.MarketChartDto;
 import com.johnbeo.johnbeo.cryptodata.dto.MarketChartPoint;
 import com.johnbeo.johnbeo.cryptodata.service.CryptoDataService;
+import com.johnbeo.johnbeo.cryptodata.service.support.EncodedResponseCache;
 import com.johnbeo.johnbeo.domain.member.entity.Member;
 import com.johnbeo.johnbeo.domain.member.model.Role;
 import com.johnbeo.johnbeo.security.jwt.JwtTokenProvider;
 import com.johnbeo.johnbeo.security.model.MemberPrincipal;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +45,9 @@ class MarketViewControllerTest {
     @MockBean
     private CoinGeckoProperties coinGeckoProperties;
 
+    @MockBean
+    private EncodedResponseCache encodedResponseCache;
+
     @MockBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -99,6 +104,16 @@ class MarketViewControllerTest {
             .andExpect(model().attribute("size", marketConfig.getPerPage()));
     }
 
+    @Test
+    void market_exposesLowercaseStreamCurrencyMatchingPriceStreamEvents() throws Exception {
+        when(cryptoDataService.getMarketCoins(anyInt(), anyInt(), Mockito.anyString())).thenReturn(List.of());
+
+        mockMvc.perform(get("/market").param("vs_currency", "KRW"))
+            .andExpect(status().isOk())
+            .andExpect(model().attribute("vsCurrency", "KRW"))
+            .andExpect(model().attribute("streamCurrency", "krw"));
+    }
+
     @Test
     void coinDetail_populatesModel() throws Exception {
         CoinDetailDto detail = new CoinDetailDto(
@@ -119,13 +134,15 @@ class MarketViewControllerTest {
             List.of()
         );
         when(cryptoDataService.getCoinDetail(Mockito.eq("bitcoin"), Mockito.anyString())).thenReturn(detail);
-        when(cryptoDataService.getMarketChart(Mockito.eq("bitcoin"), Mockito.anyInt(), Mockito.anyString())).thenReturn(chart);
+        when(cryptoDataService.getMarketChart(Mockito.eq("bitcoin"), Mockito.anyInt(), Mockito.anyString(), Mockito.anyInt())).thenReturn(chart);
+        when(encodedResponseCache.encode(Mockito.anyString(), Mockito.anyString(), Mockito.eq(chart)))
+            .thenReturn(new EncodedResponseCache.EncodedBody("{\"prices\":[]}".getBytes(StandardCharsets.UTF_8), null));
 
         mockMvc.perform(get("/coins/bitcoin"))
             .andExpect(status().isOk())
             .andExpect(view().name("coins/detail"))
             .andExpect(model().attribute("coin", detail))
             .andExpect(model().attribute("vsCurrency", "USD"))
-            .andExpect(model().attributeExists("chartData"));
+            .andExpect(model().attribute("chartData", "{\"prices\":[]}"));
     }
 }
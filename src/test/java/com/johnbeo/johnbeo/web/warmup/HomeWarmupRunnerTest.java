@@ -0,0 +1,103 @@
+package com.johnbeo.johnbeo.web.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.johnbeo.johnbeo.cryptodata.config.CoinGeckoProperties;
+import com.johnbeo.johnbeo.cryptodata.service.CryptoDataService;
+import com.johnbeo.johnbeo.domain.board.service.BoardService;
+import com.johnbeo.johnbeo.domain.feed.service.HomeFeedSnapshot;
+import com.johnbeo.johnbeo.domain.notice.service.NoticeService;
+import com.johnbeo.johnbeo.domain.watchlist.service.WatchlistService;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+@ExtendWith(MockitoExtension.class)
+class HomeWarmupRunnerTest {
+
+    @Mock
+    private CryptoDataService cryptoDataService;
+
+    @Mock
+    private WatchlistService watchlistService;
+
+    @Mock
+    private BoardService boardService;
+
+    @Mock
+    private NoticeService noticeService;
+
+    @Mock
+    private HomeFeedSnapshot homeFeedSnapshot;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(5);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private WarmupProperties properties;
+    private HomeWarmupRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmupProperties();
+        properties.setTimeout(Duration.ofMillis(300));
+        runner = new HomeWarmupRunner(
+            properties,
+            new CoinGeckoProperties(),
+            cryptoDataService,
+            watchlistService,
+            boardService,
+            noticeService,
+            homeFeedSnapshot,
+            Clock.systemUTC(),
+            executor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void readinessStaysDownUntilWarmupReports() {
+        WarmupHealthIndicator indicator = new WarmupHealthIndicator(runner);
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        properties.setEnabled(false);
+        runner.run(null);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void slowAndFailingTasksDoNotBlockTheRest() {
+        when(cryptoDataService.getMarketCoins(anyInt(), anyInt(), anyString())).thenReturn(List.of());
+        when(boardService.getBoards()).thenThrow(new IllegalStateException("db down"));
+        when(homeFeedSnapshot.current()).thenAnswer(invocation -> {
+            release.await();
+            return null;
+        });
+
+        runner.run(null);
+
+        assertThat(runner.report()).hasValueSatisfying(report -> assertThat(report.tasks())
+            .containsEntry("markets", WarmupReport.Outcome.LOADED)
+            .containsEntry("watchlist", WarmupReport.Outcome.LOADED)
+            .containsEntry("boards", WarmupReport.Outcome.FAILED)
+            .containsEntry("notices", WarmupReport.Outcome.LOADED)
+            .containsEntry("homeFeed", WarmupReport.Outcome.TIMED_OUT));
+    }
+}